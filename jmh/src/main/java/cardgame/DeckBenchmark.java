@@ -0,0 +1,41 @@
+package cardgame;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// --- Deck Benchmarks ---
+// One 52-card deck per benchmark thread, seeded so every fork shuffles the same way.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DeckBenchmark {
+    private Deck<StandardCard> deck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck<>(DeckFactory.standardCards(), 1L);
+    }
+
+    @Benchmark
+    public int shuffle() {
+        deck.shuffle();
+        return deck.size();
+    }
+
+    @Benchmark
+    public StandardCard dealCard() {
+        if (deck.isEmpty()) deck.reset();
+        return deck.dealCard();
+    }
+
+    @Benchmark
+    public int reset() {
+        deck.dealCard();
+        deck.reset();
+        return deck.size();
+    }
+}
@@ -0,0 +1,77 @@
+package cardgame;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+// --- Round Throughput Benchmarks ---
+// Whole rounds through the headless engines, and the High Card comparison kernel on its own.
+// Bulk benchmarks declare their round count, so every score is in rounds per microsecond.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RoundBenchmark {
+    private static final int ROUNDS = HighCardEngine.BATCH_SIZE;
+
+    private BlackjackEngine blackjack;
+    private HighCardEngine highCard;
+    private int[] playerValues;
+    private int[] dealerValues;
+
+    @Setup
+    public void setUp() {
+        blackjack = new BlackjackEngine(new Shoe<>(DeckFactory.standardCards(), 6, Shoe.DEFAULT_PENETRATION, Deck.seededRandom(5L)));
+        highCard = new HighCardEngine(new Deck<>(DeckFactory.standardCards(), 6L));
+
+        playerValues = new int[ROUNDS];
+        dealerValues = new int[ROUNDS];
+        RandomGenerator values = Deck.seededRandom(7L);
+        for (int i = 0; i < ROUNDS; i++) {
+            playerValues[i] = values.nextInt(2, 15);
+            dealerValues[i] = values.nextInt(2, 15);
+        }
+    }
+
+    @Benchmark
+    public BlackjackResult blackjackRound() {
+        return blackjack.playRound(BlackjackStrategy.DEALER_RULES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public HighCardTally highCardRounds() {
+        return highCard.playRounds(ROUNDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public HighCardTally highCardRoundsBatched() {
+        return highCard.playRoundsBatched(ROUNDS);
+    }
+
+    // The per-round comparison of HighCardGame.determineWinner(), on pre-dealt values
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public void compareLoop(Blackhole blackhole) {
+        long playerWins = 0;
+        long dealerWins = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            int diff = playerValues[i] - dealerValues[i];
+            if (diff > 0) playerWins++;
+            else if (diff < 0) dealerWins++;
+        }
+        blackhole.consume(playerWins);
+        blackhole.consume(dealerWins);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public HighCardTally compareBatch() {
+        return HighCardEngine.compareBatch(playerValues, dealerValues, ROUNDS);
+    }
+}
@@ -0,0 +1,54 @@
+package cardgame;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// --- Scoring Benchmarks ---
+// Per-card and per-hand lookups, cycling through fixed sets of cards and hands so the
+// branch predictor can't learn a single input.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScoringBenchmark {
+    private static final int HANDS = 1024;
+
+    private List<StandardCard> cards;
+    private List<BlackjackHand> hands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cards = DeckFactory.standardCards();
+        Deck<StandardCard> deck = new Deck<>(cards, 4L);
+        deck.shuffle();
+        hands = new ArrayList<>(HANDS);
+        for (int i = 0; i < HANDS; i++) {
+            if (deck.size() < 5) {
+                deck.reset();
+                deck.shuffle();
+            }
+            BlackjackHand hand = new BlackjackHand("Hand " + i);
+            int size = 2 + i % 4;
+            for (int c = 0; c < size; c++) {
+                hand.addCard(deck.dealCard());
+            }
+            hands.add(hand);
+        }
+    }
+
+    @Benchmark
+    public int calculateScore() {
+        return BlackjackEngine.calculateScore(hands.get(next++ & (HANDS - 1)));
+    }
+
+    @Benchmark
+    public int getCardValue() {
+        return HighCardGame.getCardValue(cards.get(next++ % CardCodes.CARD_COUNT));
+    }
+}
@@ -0,0 +1,216 @@
+package cardgame;
+
+import java.util.List;
+
+// --- Blackjack Round Result ---
+enum BlackjackOutcome {
+    PLAYER_WINS,
+    DEALER_WINS,
+    PUSH
+}
+
+record BlackjackResult(BlackjackOutcome outcome, int playerScore, int dealerScore) {
+}
+
+// --- Player Decision Policy ---
+interface BlackjackStrategy {
+    boolean shouldHit(int playerScore, boolean soft, int dealerUpcardValue);
+
+    // Mirrors the dealer: hit anything below 17
+    BlackjackStrategy DEALER_RULES = (playerScore, soft, dealerUpcardValue) -> playerScore < 17;
+}
+
+// --- Incrementally Scored Blackjack Hand ---
+// Keeps the hard total (aces as 1) and ace count up to date in addCard(), so the score
+// is O(1) to read instead of a rescan of the hand.
+class BlackjackHand extends Player<StandardCard> {
+    private int hardTotal = 0;
+    private int aceCount = 0;
+
+    public BlackjackHand(String name) {
+        super(name);
+    }
+
+    @Override
+    public void addCard(StandardCard card) {
+        super.addCard(card);
+        int value = CardCodes.blackjackValue(card.ordinal());
+        if (value == 11) {
+            aceCount++;
+            hardTotal += 1;
+        } else {
+            hardTotal += value;
+        }
+    }
+
+    @Override
+    public void clearHand() {
+        super.clearHand();
+        hardTotal = 0;
+        aceCount = 0;
+    }
+
+    // At most one ace can count as 11 without busting
+    public boolean isSoft() {
+        return aceCount > 0 && hardTotal + 10 <= 21;
+    }
+
+    public int getScore() {
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
+
+    public boolean isBust() {
+        return hardTotal > 21;
+    }
+}
+
+// --- Headless Blackjack Engine ---
+class BlackjackEngine {
+    // Two cards each for the player and the dealer
+    static final int CARDS_PER_DEAL = 4;
+
+    private Deck<StandardCard> deck;
+    private final BlackjackHand player;
+    private final BlackjackHand dealer;
+    private boolean playerTurn = false;
+    private BlackjackResult result;
+
+    public BlackjackEngine(Deck<StandardCard> deck) {
+        this(deck, "Player 1");
+    }
+
+    public BlackjackEngine(Deck<StandardCard> deck, String playerName) {
+        this.deck = deck;
+        this.player = new BlackjackHand(playerName);
+        this.dealer = new BlackjackHand("Dealer");
+    }
+
+    public Deck<StandardCard> getDeck() {
+        return deck;
+    }
+
+    public void setDeck(Deck<StandardCard> deck) {
+        this.deck = deck;
+    }
+
+    public BlackjackHand getPlayer() {
+        return player;
+    }
+
+    public BlackjackHand getDealer() {
+        return dealer;
+    }
+
+    public boolean isPlayerTurn() {
+        return playerTurn;
+    }
+
+    // Result of the last finished round, or null while a round is in progress
+    public BlackjackResult getResult() {
+        return result;
+    }
+
+    // Reshuffles a shoe whose cut card has come out, or that can't cover the deal, before dealing the next round
+    public boolean deal() {
+        if (deck instanceof Shoe<StandardCard> shoe) {
+            shoe.reshuffleIfNeeded(CARDS_PER_DEAL);
+        }
+        if (deck.size() < CARDS_PER_DEAL) {
+            return false;
+        }
+
+        player.clearHand();
+        dealer.clearHand();
+        playerTurn = true;
+        result = null;
+
+        player.addCard(deck.dealCard());
+        dealer.addCard(deck.dealCard());
+        player.addCard(deck.dealCard());
+        dealer.addCard(deck.dealCard());
+        return true;
+    }
+
+    // Returns false if the hit was not allowed (round over or deck empty)
+    public boolean hit() {
+        if (!playerTurn || deck.isEmpty()) return false;
+        player.addCard(deck.dealCard());
+        if (player.isBust()) {
+            playerTurn = false;
+            result = new BlackjackResult(BlackjackOutcome.DEALER_WINS, player.getScore(), dealer.getScore());
+        }
+        return true;
+    }
+
+    // Plays out the dealer's hand and settles the round; null if the player can't stand
+    public BlackjackResult stand() {
+        if (!playerTurn) return null;
+        playerTurn = false;
+
+        while (dealer.getScore() < 17 && !deck.isEmpty()) {
+            dealer.addCard(deck.dealCard());
+        }
+        int pScore = player.getScore();
+        int dScore = dealer.getScore();
+        BlackjackOutcome outcome;
+        if (dScore > 21 || pScore > dScore) {
+            outcome = BlackjackOutcome.PLAYER_WINS;
+        } else if (pScore < dScore) {
+            outcome = BlackjackOutcome.DEALER_WINS;
+        } else {
+            outcome = BlackjackOutcome.PUSH;
+        }
+        result = new BlackjackResult(outcome, pScore, dScore);
+        return result;
+    }
+
+    // Plays a complete round with the given policy; null if the deck can't cover the deal
+    public BlackjackResult playRound(BlackjackStrategy strategy) {
+        if (!deal()) return null;
+        int upcardValue = cardValue(dealer.getHand().get(0));
+        while (playerTurn) {
+            if (!strategy.shouldHit(player.getScore(), player.isSoft(), upcardValue) || !hit()) {
+                break;
+            }
+        }
+        return playerTurn ? stand() : result;
+    }
+
+    // O(1) for a BlackjackHand, a full rescan for any other player
+    public static int calculateScore(Player<StandardCard> player) {
+        if (player instanceof BlackjackHand hand) {
+            return hand.getScore();
+        }
+        return scoreAndSoftness(player) >> 1;
+    }
+
+    public static boolean isSoft(Player<StandardCard> player) {
+        if (player instanceof BlackjackHand hand) {
+            return hand.isSoft();
+        }
+        return (scoreAndSoftness(player) & 1) != 0;
+    }
+
+    // Score in the upper bits, lowest bit set when an ace is still counted as 11
+    private static int scoreAndSoftness(Player<StandardCard> player) {
+        List<StandardCard> hand = player.getHand();
+        int score = 0;
+        int aceCount = 0;
+        for (int i = 0; i < hand.size(); i++) {
+            int value = cardValue(hand.get(i));
+            if (value == 11) {
+                aceCount++;
+            }
+            score += value;
+        }
+        while (score > 21 && aceCount > 0) {
+            score -= 10;
+            aceCount--;
+        }
+        return (score << 1) | (aceCount > 0 ? 1 : 0);
+    }
+
+    static int cardValue(StandardCard card) {
+        return CardCodes.blackjackValue(card.ordinal());
+    }
+}
@@ -0,0 +1,136 @@
+package cardgame;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// --- Monte Carlo Blackjack Tally ---
+record BlackjackTally(long hands, long playerWins, long dealerWins, long pushes) {
+    static final BlackjackTally EMPTY = new BlackjackTally(0, 0, 0, 0);
+
+    BlackjackTally plus(BlackjackTally other) {
+        return new BlackjackTally(hands + other.hands, playerWins + other.playerWins,
+            dealerWins + other.dealerWins, pushes + other.pushes);
+    }
+
+    // Average units won per hand at even money; the house edge is its negation
+    double meanReturn() {
+        return hands == 0 ? 0 : (double) (playerWins - dealerWins) / hands;
+    }
+
+    // 95% normal-approximation half width for a win/loss/push rate
+    double rateMargin(long count) {
+        if (hands == 0) return 0;
+        double p = (double) count / hands;
+        return 1.96 * Math.sqrt(p * (1 - p) / hands);
+    }
+
+    // 95% half width for the mean return; each hand pays +1, -1 or 0
+    double returnMargin() {
+        if (hands == 0) return 0;
+        double mean = meanReturn();
+        double variance = (double) (playerWins + dealerWins) / hands - mean * mean;
+        return 1.96 * Math.sqrt(variance / hands);
+    }
+}
+
+// --- Parallel Monte Carlo Blackjack Simulator ---
+// Splits the hand count with fork/join. Every leaf owns its shoe, engine and RNG stream and
+// returns an immutable tally, so workers share no mutable state and need no locks.
+// Streams are split in a fixed tree order, so the same seed reproduces the same totals.
+class BlackjackSimulator {
+    private static final long LEAF_HANDS = 1 << 18;
+
+    private final int deckCount;
+    private final double penetration;
+    private final BlackjackStrategy strategy;
+
+    public BlackjackSimulator(int deckCount, double penetration, BlackjackStrategy strategy) {
+        this.deckCount = deckCount;
+        this.penetration = penetration;
+        this.strategy = strategy;
+    }
+
+    public BlackjackTally run(long hands, long seed) {
+        return run(hands, seed, ForkJoinPool.commonPool());
+    }
+
+    public BlackjackTally run(long hands, long seed, ForkJoinPool pool) {
+        return pool.invoke(new SimulationTask(hands, new SplittableRandom(seed)));
+    }
+
+    private BlackjackTally playHands(long hands, long seed) {
+        List<StandardCard> singleDeck = DeckFactory.standardCards();
+        Shoe<StandardCard> shoe = new Shoe<>(singleDeck, deckCount, penetration, Deck.seededRandom(seed));
+        BlackjackEngine engine = new BlackjackEngine(shoe);
+        long playerWins = 0;
+        long dealerWins = 0;
+        long pushes = 0;
+        for (long i = 0; i < hands; i++) {
+            BlackjackResult result = engine.playRound(strategy);
+            if (result == null) {
+                throw new IllegalStateException("Shoe of " + shoe.getTotalCards() + " cards could not deal hand " + i);
+            }
+            switch (result.outcome()) {
+                case PLAYER_WINS -> playerWins++;
+                case DEALER_WINS -> dealerWins++;
+                default -> pushes++;
+            }
+        }
+        return new BlackjackTally(hands, playerWins, dealerWins, pushes);
+    }
+
+    private class SimulationTask extends RecursiveTask<BlackjackTally> {
+        private final long hands;
+        private final SplittableRandom random;
+
+        SimulationTask(long hands, SplittableRandom random) {
+            this.hands = hands;
+            this.random = random;
+        }
+
+        @Override
+        protected BlackjackTally compute() {
+            if (hands <= LEAF_HANDS) {
+                return hands == 0 ? BlackjackTally.EMPTY : playHands(hands, random.nextLong());
+            }
+            long half = hands / 2;
+            SimulationTask left = new SimulationTask(half, random.split());
+            SimulationTask right = new SimulationTask(hands - half, random);
+            left.fork();
+            BlackjackTally rightTally = right.compute();
+            return left.join().plus(rightTally);
+        }
+    }
+
+    static void printReport(BlackjackTally tally, long elapsedNanos) {
+        System.out.printf("Hands played:  %,d%n", tally.hands());
+        System.out.printf("Player wins:   %.4f%% +/- %.4f%%%n",
+            100.0 * tally.playerWins() / tally.hands(), 100 * tally.rateMargin(tally.playerWins()));
+        System.out.printf("Dealer wins:   %.4f%% +/- %.4f%%%n",
+            100.0 * tally.dealerWins() / tally.hands(), 100 * tally.rateMargin(tally.dealerWins()));
+        System.out.printf("Pushes:        %.4f%% +/- %.4f%%%n",
+            100.0 * tally.pushes() / tally.hands(), 100 * tally.rateMargin(tally.pushes()));
+        System.out.printf("House edge:    %.4f%% +/- %.4f%% (95%% CI)%n",
+            -100 * tally.meanReturn(), 100 * tally.returnMargin());
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("Elapsed:       %.2f s (%,.0f hands/s)%n", seconds, tally.hands() / seconds);
+    }
+
+    // Usage: simulate <hands> [decks] [seed] [dealer|basic]
+    public static void main(String[] args) {
+        long hands = args.length > 0 ? (long) Double.parseDouble(args[0]) : 10_000_000L;
+        int decks = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        boolean basic = args.length > 3 && args[3].equals("basic");
+        BlackjackStrategy strategy = basic ? StrategyTable.forShoe(decks) : BlackjackStrategy.DEALER_RULES;
+
+        System.out.printf("Simulating %,d hands, %d-deck shoe, seed %d, %s strategy, %d threads%n",
+            hands, decks, seed, basic ? "basic" : "dealer", ForkJoinPool.commonPool().getParallelism());
+        BlackjackSimulator simulator = new BlackjackSimulator(decks, Shoe.DEFAULT_PENETRATION, strategy);
+        long start = System.nanoTime();
+        BlackjackTally tally = simulator.run(hands, seed);
+        printReport(tally, System.nanoTime() - start);
+    }
+}
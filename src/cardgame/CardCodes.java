@@ -0,0 +1,72 @@
+package cardgame;
+
+// --- Primitive Card Encoding ---
+// A card is encoded as rank * 4 + suit, giving codes 0..51 that index straight into value tables.
+final class CardCodes {
+    static final String[] SUITS = {"Hearts", "Diamonds", "Clubs", "Spades"};
+    static final String[] RANKS = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "Jack", "Queen", "King", "Ace"};
+
+    static final int SUIT_COUNT = SUITS.length;
+    static final int RANK_COUNT = RANKS.length;
+    static final int CARD_COUNT = SUIT_COUNT * RANK_COUNT;
+
+    static final int JACK = 9;
+    static final int ACE = 12;
+
+    // Aces count 11 here; hand scoring demotes them to 1 as needed
+    private static final byte[] BLACKJACK_VALUES = new byte[CARD_COUNT];
+    private static final byte[] HIGH_CARD_VALUES = new byte[CARD_COUNT];
+
+    static {
+        for (int code = 0; code < CARD_COUNT; code++) {
+            int rank = rank(code);
+            BLACKJACK_VALUES[code] = (byte) (rank == ACE ? 11 : Math.min(rank + 2, 10));
+            HIGH_CARD_VALUES[code] = (byte) (rank + 2);
+        }
+    }
+
+    private CardCodes() {
+    }
+
+    static int encode(int rank, int suit) {
+        return rank * SUIT_COUNT + suit;
+    }
+
+    static int rank(int code) {
+        return code >> 2;
+    }
+
+    static int suit(int code) {
+        return code & 3;
+    }
+
+    static int blackjackValue(int code) {
+        return BLACKJACK_VALUES[code];
+    }
+
+    static int highCardValue(int code) {
+        return HIGH_CARD_VALUES[code];
+    }
+
+    static int rankIndex(String rank) {
+        for (int i = 0; i < RANK_COUNT; i++) {
+            if (RANKS[i].equals(rank)) return i;
+        }
+        throw new IllegalArgumentException("Unknown rank: " + rank);
+    }
+
+    static int suitIndex(String suit) {
+        for (int i = 0; i < SUIT_COUNT; i++) {
+            if (SUITS[i].equals(suit)) return i;
+        }
+        throw new IllegalArgumentException("Unknown suit: " + suit);
+    }
+
+    static int fromStandardCard(StandardCard card) {
+        return card.ordinal();
+    }
+
+    static StandardCard toStandardCard(int code) {
+        return StandardCard.of(code);
+    }
+}
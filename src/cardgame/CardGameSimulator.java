@@ -0,0 +1,1294 @@
+package cardgame;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.image.BufferedImage;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import javax.swing.Timer;
+import javax.swing.border.EmptyBorder;
+
+// --- Generic Deck Class ---
+// Cards live in a fixed array; dealing advances a cursor instead of removing elements.
+// Dealt cards stay in the array below the cursor, so reset() can restore them in place.
+class Deck<T> {
+    static final String SEEDED_ALGORITHM = "L64X128MixRandom";
+
+    private Object[] cards;
+    private int length;
+    private int cursor;
+    private RandomGenerator random;
+
+    // Unseeded decks shuffle with the calling thread's ThreadLocalRandom
+    public Deck(List<T> cards) {
+        this(cards, null);
+    }
+
+    // Same seed, same shuffles: lets a simulation be replayed exactly
+    public Deck(List<T> cards, long seed) {
+        this(cards, seededRandom(seed));
+    }
+
+    public Deck(List<T> cards, RandomGenerator random) {
+        this.cards = cards.toArray();
+        this.length = this.cards.length;
+        this.random = random;
+    }
+
+    static RandomGenerator seededRandom(long seed) {
+        return RandomGeneratorFactory.of(SEEDED_ALGORITHM).create(seed);
+    }
+
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    // The generator shuffle() uses
+    public RandomGenerator getRandom() {
+        return random != null ? random : ThreadLocalRandom.current();
+    }
+
+    // Shuffles the cards that have not been dealt yet
+    public void shuffle() {
+        RandomGenerator random = this.random != null ? this.random : ThreadLocalRandom.current();
+        for (int i = length - 1; i > cursor; i--) {
+            int j = cursor + random.nextInt(i - cursor + 1);
+            Object tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T dealCard() {
+        return cursor == length ? null : (T) cards[cursor++];
+    }
+
+    public boolean isEmpty() {
+        return cursor == length;
+    }
+
+    public int size() {
+        return length - cursor;
+    }
+
+    // Every card in the deck, dealt or not
+    public int getTotalCards() {
+        return length;
+    }
+
+    // Visits the undealt cards in dealing order without copying them
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super T> action) {
+        for (int i = cursor; i < length; i++) {
+            action.accept((T) cards[i]);
+        }
+    }
+
+    // Visits every card in the deck, dealt or not, in array order
+    @SuppressWarnings("unchecked")
+    public void forEachCard(Consumer<? super T> action) {
+        for (int i = 0; i < length; i++) {
+            action.accept((T) cards[i]);
+        }
+    }
+
+    // Puts every dealt card back into the deck without reallocating
+    public void reset() {
+        cursor = 0;
+    }
+
+    public void reset(List<T> newCards) {
+        int n = newCards.size();
+        if (n > cards.length) {
+            cards = new Object[n];
+        }
+        for (int i = 0; i < n; i++) {
+            cards[i] = newCards.get(i);
+        }
+        for (int i = n; i < length; i++) {
+            cards[i] = null;
+        }
+        length = n;
+        cursor = 0;
+    }
+}
+
+// --- Card Class ---
+// Flyweight: exactly 52 immutable instances exist, shared by every deck.
+final class StandardCard {
+    private static final StandardCard[] POOL = new StandardCard[CardCodes.CARD_COUNT];
+    private static final List<StandardCard> STANDARD_DECK;
+    private static final List<List<StandardCard>> SUITS = new ArrayList<>(CardCodes.SUIT_COUNT);
+
+    static {
+        for (int code = 0; code < POOL.length; code++) {
+            POOL[code] = new StandardCard(CardCodes.SUITS[CardCodes.suit(code)], CardCodes.RANKS[CardCodes.rank(code)], code);
+        }
+        List<StandardCard> deck = new ArrayList<>(CardCodes.CARD_COUNT);
+        for (int suit = 0; suit < CardCodes.SUIT_COUNT; suit++) {
+            List<StandardCard> suitCards = new ArrayList<>(CardCodes.RANK_COUNT);
+            for (int rank = 0; rank < CardCodes.RANK_COUNT; rank++) {
+                suitCards.add(POOL[CardCodes.encode(rank, suit)]);
+            }
+            SUITS.add(Collections.unmodifiableList(suitCards));
+            deck.addAll(suitCards);
+        }
+        STANDARD_DECK = Collections.unmodifiableList(deck);
+    }
+
+    private final String suit;
+    private final String rank;
+    private final int ordinal;
+    private final String name;
+
+    private StandardCard(String suit, String rank, int ordinal) {
+        this.suit = suit;
+        this.rank = rank;
+        this.ordinal = ordinal;
+        this.name = rank + " of " + suit;
+    }
+
+    public static StandardCard of(int ordinal) {
+        return POOL[ordinal];
+    }
+
+    public static StandardCard of(String suit, String rank) {
+        return POOL[CardCodes.encode(CardCodes.rankIndex(rank), CardCodes.suitIndex(suit))];
+    }
+
+    // All 52 shared cards, suit by suit from 2 to Ace
+    public static List<StandardCard> standardDeck() {
+        return STANDARD_DECK;
+    }
+
+    // The 13 shared cards of one suit, indexed like CardCodes.SUITS
+    public static List<StandardCard> suit(int suitIndex) {
+        return SUITS.get(suitIndex);
+    }
+
+    public String getRank() {
+        return rank;
+    }
+
+    // Position in the shared pool; identical to the rank * 4 + suit CardCodes encoding
+    public int ordinal() {
+        return ordinal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof StandardCard other && other.ordinal == ordinal);
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
+
+// --- Generic Player Class ---
+class Player<T> {
+    private final String name;
+    private final List<T> hand;
+    private final List<T> handView;
+    private String handText;
+
+    public Player(String name) {
+        this.name = name;
+        this.hand = new ArrayList<>();
+        this.handView = Collections.unmodifiableList(hand);
+    }
+
+    public void addCard(T card) {
+        hand.add(card);
+        handText = null;
+    }
+
+    // Read-only: the hand changes only through addCard()/clearHand(), which keep showHand() in sync
+    public List<T> getHand() {
+        return handView;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void clearHand() {
+        hand.clear();
+        handText = null;
+    }
+
+    // Rebuilt only after the hand has changed
+    public String showHand() {
+        if (handText == null) {
+            StringBuilder sb = new StringBuilder();
+            for (T card : hand) {
+                sb.append(card.toString()).append("\n");
+            }
+            handText = sb.toString();
+        }
+        return handText;
+    }
+}
+
+// --- Animated Button Panel ---
+class AnimatedPanel extends JPanel {
+    private float alpha = 0f;
+    private final Timer fadeTimer;
+    
+    public AnimatedPanel() {
+        setOpaque(false);
+        fadeTimer = Lifecycle.bind(this, new Timer(50, e -> {
+            alpha = Math.min(1f, alpha + 0.1f);
+            repaint();
+            if (alpha >= 1f) {
+                ((Timer)e.getSource()).stop();
+            }
+        }));
+        fadeTimer.start();
+    }
+    
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        super.paintComponent(g2d);
+        g2d.dispose();
+    }
+}
+
+// --- Gradient Background Panel ---
+// Renders the gradient once per size into a compatible image; later repaints are a single blit.
+class GradientPanel extends JPanel {
+    private final Color top;
+    private final Color bottom;
+    private BufferedImage cache;
+
+    public GradientPanel(Color top, Color bottom) {
+        this.top = top;
+        this.bottom = bottom;
+        setOpaque(true);
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                cache = null;
+            }
+        });
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int w = getWidth();
+        int h = getHeight();
+        if (w <= 0 || h <= 0) return;
+        if (cache == null || cache.getWidth() != w || cache.getHeight() != h) {
+            cache = renderGradient(w, h);
+        }
+        g.drawImage(cache, 0, 0, null);
+    }
+
+    private BufferedImage renderGradient(int w, int h) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        BufferedImage image = gc != null
+            ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+            : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, top, 0, h, bottom));
+        g2d.fillRect(0, 0, w, h);
+        g2d.dispose();
+        return image;
+    }
+}
+
+// --- Shared Animation Clock ---
+// One Swing timer drives every pulsing component. It only runs while at least one
+// subscriber is visible on a non-minimized window, so an idle menu doesn't wake the EDT.
+final class AnimationClock {
+    interface Animated {
+        boolean isAnimating();
+        void animationTick();
+    }
+
+    private static final AnimationClock INSTANCE = new AnimationClock();
+
+    private final Timer timer = new Timer(50, e -> tick());
+    private final List<Animated> subscribers = new ArrayList<>();
+
+    private AnimationClock() {
+    }
+
+    static AnimationClock getInstance() {
+        return INSTANCE;
+    }
+
+    void subscribe(Animated animated) {
+        if (!subscribers.contains(animated)) {
+            subscribers.add(animated);
+        }
+        refresh();
+    }
+
+    void unsubscribe(Animated animated) {
+        subscribers.remove(animated);
+        refresh();
+    }
+
+    // Starts or stops the timer after a subscriber was shown, hidden, minimized or restored
+    void refresh() {
+        if (hasActiveSubscriber()) {
+            if (!timer.isRunning()) timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    private boolean hasActiveSubscriber() {
+        for (Animated animated : subscribers) {
+            if (animated.isAnimating()) return true;
+        }
+        return false;
+    }
+
+    private void tick() {
+        boolean active = false;
+        for (int i = 0; i < subscribers.size(); i++) {
+            Animated animated = subscribers.get(i);
+            if (animated.isAnimating()) {
+                animated.animationTick();
+                active = true;
+            }
+        }
+        if (!active) {
+            timer.stop();
+        }
+    }
+}
+
+// --- Custom Button ---
+class GameButton extends JButton implements AnimationClock.Animated {
+    private Color hoverColor;
+    private Color normalColor;
+    private float pulseScale = 1.0f;
+    private boolean growing = true;
+    private Window window;
+    private final WindowAdapter windowStateListener = new WindowAdapter() {
+        @Override
+        public void windowIconified(WindowEvent e) {
+            AnimationClock.getInstance().refresh();
+        }
+        @Override
+        public void windowDeiconified(WindowEvent e) {
+            AnimationClock.getInstance().refresh();
+        }
+    };
+
+    public GameButton(String text, Color color) {
+        super(text);
+        this.normalColor = color;
+        this.hoverColor = color.darker();
+        setupButton();
+        setupPulseAnimation();
+    }
+
+    private void setupButton() {
+        setBackground(normalColor);
+        setForeground(Color.WHITE);
+        setFocusPainted(false);
+        setBorderPainted(false);
+        setFont(new Font("Arial", Font.BOLD, 16));
+        setCursor(new Cursor(Cursor.HAND_CURSOR));
+        setPreferredSize(new Dimension(200, 60));
+
+        addMouseListener(new MouseAdapter() {
+            public void mouseEntered(MouseEvent e) {
+                setBackground(hoverColor);
+            }
+            public void mouseExited(MouseEvent e) {
+                setBackground(normalColor);
+            }
+        });
+    }
+
+    private void setupPulseAnimation() {
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                AnimationClock.getInstance().refresh();
+            }
+        });
+    }
+
+    // Joins the shared clock while the button is part of a displayable window
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        window = SwingUtilities.getWindowAncestor(this);
+        if (window != null) {
+            window.addWindowListener(windowStateListener);
+        }
+        AnimationClock.getInstance().subscribe(this);
+    }
+
+    // Leaves the clock when removed or when its window is disposed
+    @Override
+    public void removeNotify() {
+        AnimationClock.getInstance().unsubscribe(this);
+        if (window != null) {
+            window.removeWindowListener(windowStateListener);
+            window = null;
+        }
+        super.removeNotify();
+    }
+
+    @Override
+    public boolean isAnimating() {
+        if (!isShowing()) return false;
+        return !(window instanceof Frame frame) || (frame.getExtendedState() & Frame.ICONIFIED) == 0;
+    }
+
+    @Override
+    public void animationTick() {
+        if (growing) {
+            pulseScale += 0.01f;
+            if (pulseScale >= 1.05f) growing = false;
+        } else {
+            pulseScale -= 0.01f;
+            if (pulseScale <= 0.95f) growing = true;
+        }
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        
+        int w = getWidth();
+        int h = getHeight();
+        
+        // Calculate scaled dimensions
+        int sw = (int)(w * pulseScale);
+        int sh = (int)(h * pulseScale);
+        int x = (w - sw) / 2;
+        int y = (h - sh) / 2;
+        
+        g2d.setColor(getBackground());
+        g2d.fillRoundRect(x, y, sw, sh, 20, 20);
+        
+        g2d.setColor(getForeground());
+        FontMetrics fm = g2d.getFontMetrics();
+        String text = getText();
+        int textX = (w - fm.stringWidth(text)) / 2;
+        int textY = (h - fm.getHeight()) / 2 + fm.getAscent();
+        g2d.drawString(text, textX, textY);
+        
+        g2d.dispose();
+    }
+}
+
+// --- Game Screen ---
+// A game hosted as a panel inside the single application window
+interface GameScreen {
+    String getScreenTitle();
+
+    // Called each time the screen is brought to the front
+    default void screenShown() {
+    }
+
+    // Called when another screen replaces this one
+    default void screenHidden() {
+    }
+}
+
+// --- Main UI Class ---
+public class CardGameSimulator extends JFrame {
+    private static final String MENU = "menu";
+    private static final String MENU_TITLE = "Card Game Menu";
+
+    private final CardLayout screenLayout = new CardLayout();
+    private final JPanel screens = new JPanel(screenLayout);
+    private final Map<String, GameScreen> gameScreens = new HashMap<>();
+    private GameScreen currentScreen;
+    private final JPanel menuScreen = new GradientPanel(new Color(25, 25, 112), new Color(72, 61, 139));
+    private final JTextArea displayArea = new JTextArea(10, 30);
+    private final GameButton blackjackButton = new GameButton("Play Blackjack", new Color(50, 205, 50));
+    private final GameButton highCardButton = new GameButton("Play High Card", new Color(255, 69, 0));
+    private final GameButton guessCardButton = new GameButton("Play Guess the Card", new Color(147, 112, 219));
+    private final GameButton slapjackButton = new GameButton("Play Slapjack", new Color(255, 215, 0));
+
+    public CardGameSimulator() {
+        setTitle(MENU_TITLE);
+        setSize(800, 600);
+        setDefaultCloseOperation(EXIT_ON_CLOSE);
+
+        // One window for the whole app: the menu and every game are cards in this panel
+        setContentPane(screens);
+
+        // Gradient background
+        JPanel backgroundPanel = menuScreen;
+        backgroundPanel.setLayout(new BorderLayout(20, 20));
+        screens.add(backgroundPanel, MENU);
+
+        // Title Panel
+        JPanel titlePanel = new AnimatedPanel();
+        JLabel titleLabel = new JLabel("Card Game Collection");
+        titleLabel.setFont(new Font("Arial", Font.BOLD, 36));
+        titleLabel.setForeground(Color.WHITE);
+        titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        titlePanel.add(titleLabel);
+        titlePanel.setBorder(new EmptyBorder(20, 0, 0, 0));
+        backgroundPanel.add(titlePanel, BorderLayout.NORTH);
+
+        // Display Area with custom styling
+        displayArea.setEditable(false);
+        displayArea.setBackground(new Color(255, 255, 255, 220));
+        displayArea.setForeground(new Color(25, 25, 112));
+        displayArea.setFont(new Font("Arial", Font.PLAIN, 16));
+        displayArea.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(255, 255, 255, 100), 2),
+            BorderFactory.createEmptyBorder(10, 10, 10, 10)
+        ));
+        JScrollPane scrollPane = new JScrollPane(displayArea);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        backgroundPanel.add(scrollPane, BorderLayout.CENTER);
+
+        // Button Panel with animation
+        JPanel menuPanel = new AnimatedPanel();
+        menuPanel.setLayout(new GridLayout(2, 2, 20, 20));
+        menuPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        
+        menuPanel.add(blackjackButton);
+        menuPanel.add(highCardButton);
+        menuPanel.add(guessCardButton);
+        menuPanel.add(slapjackButton);
+        backgroundPanel.add(menuPanel, BorderLayout.SOUTH);
+
+        // Button Actions
+        blackjackButton.addActionListener(e -> showGame("blackjack", () -> new BlackjackGame(this::showMenu)));
+        highCardButton.addActionListener(e -> showGame("highCard", () -> new HighCardGame(this::showMenu)));
+        guessCardButton.addActionListener(e -> playGuessTheCard());
+        slapjackButton.addActionListener(e -> showGame("slapjack", () -> new SlapjackGame(this::showMenu)));
+    }
+
+    // Game panels are built on first use and kept, so switching games is only a card swap
+    <T extends JComponent & GameScreen> void showGame(String name, Supplier<T> factory) {
+        GameScreen screen = gameScreens.get(name);
+        if (screen == null) {
+            T created = factory.get();
+            screens.add(created, name);
+            gameScreens.put(name, created);
+            screen = created;
+        }
+        switchTo(name, screen);
+    }
+
+    void showMenu() {
+        switchTo(MENU, null);
+    }
+
+    private void switchTo(String name, GameScreen screen) {
+        // An open dialog belongs to the screen being left
+        OverlayDialog.closeAll(getRootPane());
+        if (currentScreen != null) {
+            currentScreen.screenHidden();
+        }
+        currentScreen = screen;
+        screenLayout.show(screens, name);
+        setTitle(screen == null ? MENU_TITLE : screen.getScreenTitle());
+        if (screen != null) {
+            screen.screenShown();
+        }
+    }
+
+    private void playGuessTheCard() {
+        StandardCard chosenCard = DeckFactory.shuffledStandardDeck().dealCard();
+        JButton submitButton = new GameButton("Submit Guess", new Color(50, 205, 50));
+        OverlayDialog.prompt(menuScreen, "Guess the Card",
+            "Guess the rank of the card (e.g., Ace, 2, King):", submitButton,
+            guess -> showResult(guess, chosenCard));
+    }
+
+    private void showResult(String guess, StandardCard chosenCard) {
+        String message = guess.equalsIgnoreCase(chosenCard.getRank()) ?
+            "Correct! It was: " + chosenCard :
+            "Wrong! It was: " + chosenCard;
+
+        // Auto-close after 2 seconds
+        OverlayDialog.message(menuScreen, "Result", message, 2000);
+    }
+
+    public static void main(String[] args) {
+        // Headless Monte Carlo mode: simulate <hands> [decks] [seed] [dealer|basic]
+        if (args.length > 0 && args[0].equals("simulate")) {
+            BlackjackSimulator.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // Headless High Card tournament: highcard <rounds> [seed]
+        if (args.length > 0 && args[0].equals("highcard")) {
+            HighCardEngine.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // Print the solved hit/stand table: strategy [decks]
+        if (args.length > 0 && args[0].equals("strategy")) {
+            StrategyTable.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        try {
+            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        
+        SwingUtilities.invokeLater(() -> {
+            CardGameSimulator game = new CardGameSimulator();
+            game.setLocationRelativeTo(null);
+            game.setVisible(true);
+        });
+    }
+}
+
+// --- Blackjack Game Panel ---
+class BlackjackGame extends JPanel implements GameScreen {
+    private final Runnable backToMenu;
+    private final GameLog displayArea = new GameLog();
+    private final GameLoop loop = new GameLoop("blackjack", displayArea);
+    private final JButton dealButton = new JButton("Deal (Blackjack)");
+    private final JButton shuffleButton = new JButton("Shuffle Deck");
+    private final JButton resetDeckButton = new JButton("Reset Deck");
+    private final JButton hitButton = new JButton("Hit (Player 1)");
+    private final JButton standButton = new JButton("Stand (Player 1)");
+    private final JButton backButton = new JButton("← Back to Menu");
+    private final JComboBox<String> deckCountComboBox;
+    private Shoe<StandardCard> deck = DeckFactory.shoe(1);
+    private StrategyTable strategy;
+    private final BlackjackEngine engine = new BlackjackEngine(deck);
+    private final BlackjackHand player1 = engine.getPlayer();
+    private final BlackjackHand dealer = engine.getDealer();
+
+    public BlackjackGame(Runnable backToMenu) {
+        this.backToMenu = backToMenu;
+        setLayout(new BorderLayout());
+
+        // Set background color
+        setBackground(new Color(34, 139, 34)); // Forest green background
+
+        displayArea.setBackground(new Color(255, 255, 255));
+        displayArea.setForeground(new Color(0, 100, 0)); // Dark green text
+        displayArea.setFont(new Font("Arial", Font.PLAIN, 14));
+        add(new JScrollPane(displayArea), BorderLayout.CENTER);
+
+        // Create shoe size dropdown
+        String[] deckOptions = new String[Shoe.MAX_DECKS - Shoe.MIN_DECKS + 1];
+        for (int i = 0; i < deckOptions.length; i++) {
+            int decks = Shoe.MIN_DECKS + i;
+            deckOptions[i] = decks + (decks == 1 ? " deck" : " decks");
+        }
+        deckCountComboBox = new JComboBox<>(deckOptions);
+        deckCountComboBox.addActionListener(e -> {
+            int decks = Shoe.MIN_DECKS + deckCountComboBox.getSelectedIndex();
+            loop.execute(() -> updateShoe(decks));
+        });
+
+        JPanel controlPanel = new JPanel();
+        controlPanel.setBackground(new Color(34, 139, 34));
+        JLabel shoeLabel = new JLabel("Shoe: ");
+        shoeLabel.setForeground(Color.WHITE);
+        controlPanel.add(shoeLabel);
+        controlPanel.add(deckCountComboBox);
+        add(controlPanel, BorderLayout.NORTH);
+
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setBackground(new Color(34, 139, 34));
+        styleBlackjackButton(dealButton, new Color(0, 100, 0));     // Dark green
+        styleBlackjackButton(hitButton, new Color(220, 20, 60));    // Crimson
+        styleBlackjackButton(standButton, new Color(25, 25, 112));  // Dark blue
+        styleBlackjackButton(shuffleButton, new Color(128, 0, 0));  // Maroon
+        styleBlackjackButton(resetDeckButton, new Color(85, 107, 47)); // Dark olive
+        styleBlackjackButton(backButton, new Color(128, 128, 128)); // Gray
+        buttonPanel.add(dealButton);
+        buttonPanel.add(hitButton);
+        buttonPanel.add(standButton);
+        buttonPanel.add(shuffleButton);
+        buttonPanel.add(resetDeckButton);
+        buttonPanel.add(backButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        // Game state belongs to the loop thread; buttons only queue actions
+        shuffleButton.addActionListener(e -> loop.execute(() -> {
+            deck.shuffle();
+            display("Deck shuffled!\n");
+        }));
+
+        resetDeckButton.addActionListener(e -> loop.execute(() -> {
+            deck.reset();
+            display("Deck reset to full " + deck.getTotalCards() + " cards.\n");
+        }));
+
+        dealButton.addActionListener(e -> loop.execute(this::dealBlackjack));
+        hitButton.addActionListener(e -> loop.execute(this::hitPlayer));
+        standButton.addActionListener(e -> loop.execute(this::dealerTurn));
+
+        // Solving (or loading) the strategy table is slow; do it before the first queued action
+        loop.execute(() -> strategy = StrategyTable.forShoe(1));
+        backButton.addActionListener(e -> backToMenu.run());
+    }
+
+    @Override
+    public String getScreenTitle() {
+        return "Blackjack Simulator";
+    }
+
+    private void styleBlackjackButton(JButton button, Color color) {
+        button.setBackground(color);
+        button.setForeground(Color.WHITE);
+        button.setFont(new Font("Arial", Font.BOLD, 12));
+        button.setFocusPainted(false);
+        button.setBorderPainted(false);
+        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        
+        // Add hover effect
+        button.addMouseListener(new MouseAdapter() {
+            public void mouseEntered(MouseEvent e) {
+                button.setBackground(color.darker());
+            }
+            public void mouseExited(MouseEvent e) {
+                button.setBackground(color);
+            }
+        });
+    }
+
+    // Solving the strategy table for a new shoe size can take a while; it runs on the loop thread
+    private void updateShoe(int decks) {
+        deck = DeckFactory.shoe(decks);
+        strategy = StrategyTable.forShoe(decks);
+        engine.setDeck(deck);
+        display("New shoe with " + decks + (decks == 1 ? " deck" : " decks") + " (" + deck.getTotalCards() + " cards), shuffled.\n");
+    }
+
+    private void dealBlackjack() {
+        if (deck.reshuffleIfNeeded(BlackjackEngine.CARDS_PER_DEAL)) {
+            display("Cut card reached. Shoe reshuffled.\n");
+        }
+        if (!engine.deal()) {
+            display("Not enough cards. Please shuffle or reset.\n");
+            return;
+        }
+        updateDisplay();
+        showStrategyHint();
+    }
+
+    private void hitPlayer() {
+        if (!engine.hit()) return;
+        updateDisplay();
+        BlackjackResult result = engine.getResult();
+        if (result != null && result.playerScore() > 21) {
+            display("Player 1 busts! Dealer wins.\n");
+        } else {
+            showStrategyHint();
+        }
+    }
+
+    private void showStrategyHint() {
+        if (!engine.isPlayerTurn()) return;
+        int upcardValue = BlackjackEngine.cardValue(dealer.getHand().get(0));
+        boolean hit = strategy.shouldHit(calculateScore(player1), BlackjackEngine.isSoft(player1), upcardValue);
+        display("Basic strategy: " + (hit ? "Hit" : "Stand") + "\n");
+    }
+
+    private void dealerTurn() {
+        BlackjackResult result = engine.stand();
+        if (result == null) return;
+
+        updateDisplay();
+        switch (result.outcome()) {
+            case PLAYER_WINS -> display("Player 1 wins!\n");
+            case DEALER_WINS -> display("Dealer wins!\n");
+            default -> display("It's a tie!\n");
+        }
+    }
+
+    private int calculateScore(Player<StandardCard> player) {
+        return BlackjackEngine.calculateScore(player);
+    }
+
+    private void updateDisplay() {
+        display("\nPlayer 1 Hand (" + calculateScore(player1) + "):\n" + player1.showHand());
+        display("\nDealer Hand (" + calculateScore(dealer) + "):\n" + dealer.showHand());
+    }
+
+    // Loop thread only
+    private void display(String message) {
+        loop.log(message);
+    }
+}
+
+// --- High Card Game Panel ---
+class HighCardGame extends JPanel implements GameScreen {
+    private final Runnable backToMenu;
+    private final GameLog displayArea = new GameLog();
+    private final GameLoop loop = new GameLoop("highcard", displayArea);
+    private final JButton playerDrawButton = new JButton("Draw for Player");
+    private final JButton dealerDrawButton = new JButton("Draw for Dealer");
+    private Deck<StandardCard> deck;
+    private final Player<StandardCard> player = new Player<>("Player");
+    private final Player<StandardCard> dealer = new Player<>("Dealer");
+    private boolean gameInProgress = false;
+
+    public HighCardGame(Runnable backToMenu) {
+        this.backToMenu = backToMenu;
+        setLayout(new BorderLayout());
+
+        // Set background color
+        setBackground(new Color(230, 230, 250)); // Lavender background
+
+        displayArea.setBackground(new Color(255, 255, 255));
+        displayArea.setForeground(new Color(75, 0, 130)); // Indigo text
+        displayArea.setFont(new Font("Arial", Font.PLAIN, 14));
+        add(new JScrollPane(displayArea), BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setBackground(new Color(230, 230, 250));
+        styleHighCardButton(playerDrawButton, new Color(0, 128, 128)); // Teal
+        styleHighCardButton(dealerDrawButton, new Color(128, 0, 128)); // Purple
+        buttonPanel.add(playerDrawButton);
+        buttonPanel.add(dealerDrawButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        deck = DeckFactory.shuffledStandardDeck();
+
+        playerDrawButton.addActionListener(e -> loop.execute(this::drawForPlayer));
+        dealerDrawButton.addActionListener(e -> loop.execute(this::drawForDealer));
+    }
+
+    @Override
+    public String getScreenTitle() {
+        return "High Card";
+    }
+
+    private void styleHighCardButton(JButton button, Color color) {
+        button.setBackground(color);
+        button.setForeground(Color.WHITE);
+        button.setFont(new Font("Arial", Font.BOLD, 14));
+        button.setFocusPainted(false);
+        button.setBorderPainted(false);
+        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        
+        // Add hover effect
+        button.addMouseListener(new MouseAdapter() {
+            public void mouseEntered(MouseEvent e) {
+                button.setBackground(color.darker());
+            }
+            public void mouseExited(MouseEvent e) {
+                button.setBackground(color);
+            }
+        });
+    }
+
+    private void drawForPlayer() {
+        if (!gameInProgress) {
+            player.clearHand();
+            dealer.clearHand();
+            gameInProgress = true;
+        }
+        
+        if (player.getHand().size() > 0) {
+            display("Player already drew a card!\n");
+            return;
+        }
+
+        if (deck.isEmpty()) {
+            deck.reset();
+            deck.shuffle();
+        }
+
+        player.addCard(deck.dealCard());
+        updateDisplay();
+    }
+
+    private void drawForDealer() {
+        if (!gameInProgress) {
+            display("Player must draw first!\n");
+            return;
+        }
+
+        if (dealer.getHand().size() > 0) {
+            display("Dealer already drew a card!\n");
+            return;
+        }
+
+        if (deck.isEmpty()) {
+            deck.reset();
+            deck.shuffle();
+        }
+
+        dealer.addCard(deck.dealCard());
+        String result = determineWinner();
+        updateDisplay();
+        gameInProgress = false;
+
+        // Prompt for new game with winner information
+        loop.onEdt(() -> OverlayDialog.confirm(this, "Game Over", result + "\n\nWould you like to play again?", playAgain -> {
+            if (playAgain) {
+                loop.execute(() -> {
+                    player.clearHand();
+                    dealer.clearHand();
+                    gameInProgress = false;
+                    updateDisplay();
+                });
+            } else {
+                backToMenu.run();
+            }
+        }));
+    }
+
+    private String determineWinner() {
+        if (player.getHand().isEmpty() || dealer.getHand().isEmpty()) {
+            return "";
+        }
+
+        StandardCard playerCard = player.getHand().get(0);
+        StandardCard dealerCard = dealer.getHand().get(0);
+        
+        int comparison = HighCardEngine.compare(playerCard, dealerCard);
+
+        if (comparison > 0) {
+            return "Player wins with " + playerCard + " vs " + dealerCard + "!";
+        } else if (comparison < 0) {
+            return "Dealer wins with " + dealerCard + " vs " + playerCard + "!";
+        } else {
+            return "It's a tie! Both have " + playerCard.getRank() + "!";
+        }
+    }
+
+    static int getCardValue(StandardCard card) {
+        return CardCodes.highCardValue(card.ordinal());
+    }
+
+    private void updateDisplay() {
+        loop.clearLog();
+        display("Player's card:\n" + player.showHand() + "\n");
+        display("Dealer's card:\n" + dealer.showHand() + "\n");
+    }
+
+    // Loop thread only
+    private void display(String message) {
+        loop.log(message);
+    }
+}
+
+// --- Slapjack Game Panel ---
+class SlapjackGame extends JPanel implements GameScreen {
+    private final Runnable backToMenu;
+    private final GameLog displayArea = new GameLog();
+    private final GameLoop loop = new GameLoop("slapjack", displayArea);
+    private final JButton slapButton = new JButton("SLAP!");
+    private final JComboBox<String> timerComboBox;
+    private Deck<StandardCard> deck;
+    private final Player<StandardCard> player = new Player<>("Player");
+    private StandardCard currentCard;
+    private boolean isJack = false;
+    private boolean playing = false;
+    private final PreciseTimer flipTimer;
+    private final PreciseTimer slapTimer;
+    private int score = 0;
+    private long jackRevealNanos;
+    private long flipCount = 0;
+    private long slapWindowNanos = 2_000_000_000L;
+    private boolean slapKeyHeld = false;
+    private final LatencyHistogram reactionTimes = new LatencyHistogram();
+    private final LatencyHistogram inputDelays = new LatencyHistogram();
+    private String[] suits = {"Hearts", "Diamonds", "Clubs", "Spades"};
+    private int currentSuitIndex = 0;
+
+    public SlapjackGame(Runnable backToMenu) {
+        this.backToMenu = backToMenu;
+        setLayout(new BorderLayout());
+
+        // Set background color
+        setBackground(new Color(255, 240, 245)); // Misty rose background
+
+        displayArea.setBackground(new Color(255, 255, 255));
+        displayArea.setForeground(new Color(139, 0, 139)); // Dark magenta text
+        displayArea.setFont(new Font("Arial", Font.PLAIN, 14));
+        add(new JScrollPane(displayArea), BorderLayout.CENTER);
+
+        // Create timer selection dropdown
+        String[] timerOptions = {"1 second", "1.5 seconds", "2 seconds", "2.5 seconds", "3 seconds"};
+        timerComboBox = new JComboBox<>(timerOptions);
+        timerComboBox.setSelectedIndex(2); // Default to 2 seconds
+        timerComboBox.addActionListener(e -> updateSlapTimer());
+
+        JPanel controlPanel = new JPanel();
+        controlPanel.setBackground(new Color(255, 240, 245));
+        controlPanel.add(new JLabel("Slap Timer: "));
+        controlPanel.add(timerComboBox);
+        add(controlPanel, BorderLayout.NORTH);
+
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setBackground(new Color(255, 240, 245));
+        styleSlapButton(slapButton);
+        buttonPanel.add(slapButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        deck = DeckFactory.shuffledSuitDeck(currentSuitIndex);
+
+        setupSlapInput();
+
+        // Initialize flip timer (flips card every 1.5 seconds, on a drift-free schedule)
+        flipTimer = new PreciseTimer(1500, true, () -> loop.execute(this::flipCard));
+        Lifecycle.bind(this, flipTimer::stop);
+
+        // Initialize slap timer with default 2 seconds. The miss is resolved after any input
+        // already waiting in the event queue, so a slap pressed in time still counts.
+        slapTimer = new PreciseTimer(2000, false, () -> SwingUtilities.invokeLater(() -> loop.execute(() -> {
+            if (isJack) {
+                display("Too slow! You missed the Jack!\n");
+                endGame();
+            }
+        })));
+        Lifecycle.bind(this, slapTimer::stop);
+    }
+
+    @Override
+    public String getScreenTitle() {
+        return "Slapjack";
+    }
+
+    // Every visit starts a fresh game, as opening a new Slapjack window used to
+    @Override
+    public void screenShown() {
+        slapKeyHeld = false;
+        requestFocusInWindow();
+        loop.execute(this::resetGame);
+    }
+
+    @Override
+    public void screenHidden() {
+        Lifecycle.tearDown(this);
+        // Again on the loop: a resetGame() queued before the hide would restart the timers
+        loop.execute(() -> {
+            playing = false;
+            isJack = false;
+            flipTimer.stop();
+            slapTimer.stop();
+        });
+    }
+
+    private void updateSlapTimer() {
+        String selectedTime = (String) timerComboBox.getSelectedItem();
+        int milliseconds = (int) (Double.parseDouble(selectedTime.split(" ")[0]) * 1000);
+        slapTimer.setDelay(milliseconds);
+        loop.execute(() -> slapWindowNanos = milliseconds * 1_000_000L);
+    }
+
+    // Slaps fire on mouse press or SPACE key press rather than on the button's release-time
+    // action, and bypass the button model entirely. Nothing else on the screen may take focus,
+    // since a focused JComboBox (popup) or JList (selection) consumes SPACE before the window
+    // binding sees it; the panel itself holds focus instead. The combo still works by mouse.
+    private void setupSlapInput() {
+        slapButton.setFocusable(false);
+        timerComboBox.setFocusable(false);
+        displayArea.setFocusable(false);
+        setFocusable(true);
+        slapButton.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (SwingUtilities.isLeftMouseButton(e)) {
+                    slapPressed(e.getWhen());
+                }
+            }
+        });
+
+        InputMap inputMap = getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0, false), "slap");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0, true), "slapReleased");
+        getActionMap().put("slap", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                // Ignore key auto-repeat while SPACE is held down
+                if (!slapKeyHeld) {
+                    slapKeyHeld = true;
+                    slapPressed(e.getWhen());
+                }
+            }
+        });
+        getActionMap().put("slapReleased", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                slapKeyHeld = false;
+            }
+        });
+
+        // A release while another window (or an overlay) has focus never reaches us
+        addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                slapKeyHeld = false;
+            }
+        });
+    }
+
+    // Backdates the dispatch timestamp by the time the event spent queued, so the slap is
+    // judged by when it was pressed rather than when the EDT got to it
+    private void slapPressed(long eventMillis) {
+        // SPACE is bound for the whole window, so ignore it once the game is over
+        if (!flipTimer.isRunning()) return;
+        long dispatchNanos = System.nanoTime();
+        long queuedNanos = Math.max(0, System.currentTimeMillis() - eventMillis) * 1_000_000L;
+        loop.execute(() -> {
+            inputDelays.recordNanos(queuedNanos);
+            slap(dispatchNanos - queuedNanos);
+        });
+    }
+
+    private void moveToNextSuit() {
+        currentSuitIndex = (currentSuitIndex + 1) % suits.length;
+        deck.reset(DeckFactory.suitCards(currentSuitIndex));
+        deck.shuffle();
+        display("\nMoving to " + suits[currentSuitIndex] + " suit!\n");
+    }
+
+    private void flipCard() {
+        // A flip can still be queued when the game ends
+        if (!playing) return;
+        if (deck.isEmpty()) {
+            if (currentSuitIndex < suits.length - 1) {
+                moveToNextSuit();
+                return;
+            } else {
+                display("All suits completed! Game Over!\n");
+                endGame();
+                return;
+            }
+        }
+
+        currentCard = deck.dealCard();
+        isJack = false;
+        long flip = ++flipCount;
+        
+        display("Card flipped: " + currentCard + "\n");
+        if (CardCodes.rank(currentCard.ordinal()) == CardCodes.JACK) {
+            display("JACK! SLAP NOW!\n");
+            // The Jack counts as revealed once it is painted, not when it is dealt here: the
+            // text still has to cross to the EDT. Push it through GameLog's frame timer and
+            // paint it at once, then stamp the time on the EDT.
+            loop.onEdt(() -> {
+                displayArea.flushNow();
+                long shownNanos = System.nanoTime();
+                loop.execute(() -> revealJack(flip, shownNanos));
+            });
+        }
+    }
+
+    private void revealJack(long flip, long shownNanos) {
+        // Game over, or the next card already came up
+        if (!playing || flip != flipCount) return;
+        isJack = true;
+        jackRevealNanos = shownNanos;
+        // The window closes exactly slapWindowNanos after the reveal
+        slapTimer.startFrom(shownNanos);
+    }
+
+    private void slap(long slapNanos) {
+        // Pressed before the Jack appeared, even if dispatched after it
+        if (!isJack || slapNanos < jackRevealNanos) {
+            display("No Jack to slap! -1 point penalty\n");
+            score = Math.max(0, score -1);
+            return;
+        }
+
+        long reactionNanos = slapNanos - jackRevealNanos;
+        if (reactionNanos > slapWindowNanos) {
+            return; // Pressed after the window closed; the pending miss resolves it
+        }
+
+        slapTimer.stop();
+        isJack = false;
+        reactionTimes.recordNanos(reactionNanos);
+
+        // Add the current card to the player's pile
+        player.addCard(currentCard);
+        score++;
+        display(String.format("Great slap! +1 point (%.1f ms)%n", reactionNanos / 1e6));
+    }
+
+    private void endGame() {
+        playing = false;
+        flipTimer.stop();
+        slapTimer.stop();
+        
+        display("\nFinal Score:\n");
+        display("Your score: " + score + " points\n");
+        display("Cards collected: " + player.getHand().size() + "\n");
+        display("Reaction time: " + reactionTimes.summary() + "\n");
+        display("Input dispatch delay: " + inputDelays.summary() + "\n");
+        display("Flip timer lateness: " + flipTimer.jitterSummary() + "\n");
+        
+        // Ask to play again
+        loop.onEdt(() -> OverlayDialog.confirm(this, "Game Over", "Would you like to play again?", playAgain -> {
+            if (playAgain) {
+                slapKeyHeld = false;
+                loop.execute(this::resetGame);
+            } else {
+                backToMenu.run();
+            }
+        }));
+    }
+
+    private void resetGame() {
+        currentSuitIndex = 0;
+        deck.reset(DeckFactory.suitCards(currentSuitIndex));
+        deck.shuffle();
+        player.clearHand();
+        score = 0;
+        isJack = false;
+        playing = true;
+        reactionTimes.reset();
+        inputDelays.reset();
+        flipTimer.resetStats();
+        loop.clearLog();
+        display("New game started! Watch for Jacks and SLAP!\n");
+        display("Current suit: " + suits[currentSuitIndex] + "\n");
+        flipTimer.start();
+    }
+
+    private void styleSlapButton(JButton button) {
+        button.setBackground(new Color(255, 0, 0)); // Bright red
+        button.setForeground(Color.WHITE);
+        button.setFont(new Font("Arial", Font.BOLD, 20));
+        button.setFocusPainted(false);
+        button.setBorderPainted(false);
+        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        
+        // Add hover effect
+        button.addMouseListener(new MouseAdapter() {
+            public void mouseEntered(MouseEvent e) {
+                button.setBackground(new Color(220, 0, 0));
+            }
+            public void mouseExited(MouseEvent e) {
+                button.setBackground(new Color(255, 0, 0));
+            }
+        });
+    }
+
+    // Loop thread only
+    private void display(String message) {
+        loop.log(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package cardgame;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// --- High-Resolution Deadline Scheduler ---
+// One shared daemon thread that fires PreciseTimers at System.nanoTime() deadlines. It parks
+// until just before the earliest deadline and spins for the last stretch, so a tick lands
+// within microseconds of its deadline instead of the millisecond-plus slop of a Swing Timer,
+// whose events also queue up behind whatever else the EDT is doing.
+final class DeadlineScheduler {
+    // Parking can overshoot by a fraction of a millisecond; busy-wait the last stretch instead.
+    // That costs at most this much CPU per tick, which is nothing at card-flip rates.
+    private static final long SPIN_NANOS = 1_000_000;
+    private static final DeadlineScheduler INSTANCE = new DeadlineScheduler();
+
+    private record Entry(long deadline, PreciseTimer timer, long generation) {
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>((a, b) -> Long.compare(a.deadline - b.deadline, 0));
+
+    private DeadlineScheduler() {
+        Thread thread = new Thread(this::run, "deadline-scheduler");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    static DeadlineScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    void schedule(PreciseTimer timer, long deadline, long generation) {
+        lock.lock();
+        try {
+            queue.add(new Entry(deadline, timer, generation));
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Drops the timer's pending ticks, so a stopped timer (and whatever its task refers to)
+    // isn't kept reachable until its deadline
+    void cancel(PreciseTimer timer) {
+        lock.lock();
+        try {
+            queue.removeIf(entry -> entry.timer == timer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Entry due;
+            lock.lock();
+            try {
+                while (true) {
+                    Entry head = queue.peek();
+                    if (head == null) {
+                        changed.awaitUninterruptibly();
+                        continue;
+                    }
+                    long wait = head.deadline - System.nanoTime();
+                    if (wait <= SPIN_NANOS) {
+                        due = queue.poll();
+                        break;
+                    }
+                    changed.awaitNanos(wait - SPIN_NANOS);
+                }
+            } catch (InterruptedException e) {
+                continue;
+            } finally {
+                lock.unlock();
+            }
+            while (System.nanoTime() - due.deadline < 0) {
+                Thread.onSpinWait();
+            }
+            due.timer.fire(due.deadline, due.generation);
+        }
+    }
+}
+
+// --- Precise Timer ---
+// A javax.swing.Timer replacement driven by DeadlineScheduler. Repeating timers advance their
+// deadline by exactly one period from the previous deadline, not from when the tick actually
+// ran, so lateness never accumulates into drift; ticks missed entirely (e.g. after a system
+// sleep) are skipped rather than fired in a burst. Every tick's lateness is recorded.
+// All methods are thread-safe. The task runs on the scheduler thread and must only hand work
+// off, e.g. to a GameLoop or the EDT.
+class PreciseTimer {
+    private final Runnable task;
+    private final boolean repeats;
+    private long delayNanos;
+    private boolean running = false;
+    private long generation = 0;
+    private long skippedTicks = 0;
+    private final LatencyHistogram lateness = new LatencyHistogram();
+
+    // Unlike Swing's Timer the delay must be positive: a zero period would spin fire()'s
+    // catch-up loop forever on the shared scheduler thread
+    public PreciseTimer(int delayMillis, boolean repeats, Runnable task) {
+        this.delayNanos = toDelayNanos(delayMillis);
+        this.repeats = repeats;
+        this.task = task;
+    }
+
+    public synchronized void setDelay(int delayMillis) {
+        delayNanos = toDelayNanos(delayMillis);
+    }
+
+    private static long toDelayNanos(int delayMillis) {
+        if (delayMillis <= 0) {
+            throw new IllegalArgumentException("Timer delay must be positive: " + delayMillis);
+        }
+        return delayMillis * 1_000_000L;
+    }
+
+    public synchronized int getDelay() {
+        return (int) (delayNanos / 1_000_000L);
+    }
+
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    // Like Swing's Timer, does nothing if already running
+    public synchronized void start() {
+        if (!running) {
+            startFrom(System.nanoTime());
+        }
+    }
+
+    public synchronized void restart() {
+        startFrom(System.nanoTime());
+    }
+
+    // (Re)starts with the first tick one delay after the given System.nanoTime() instant, so a
+    // window can be measured from the exact moment it opened rather than from this call
+    public synchronized void startFrom(long startNanos) {
+        DeadlineScheduler scheduler = DeadlineScheduler.getInstance();
+        if (running) {
+            scheduler.cancel(this);
+        }
+        running = true;
+        scheduler.schedule(this, startNanos + delayNanos, ++generation);
+    }
+
+    public synchronized void stop() {
+        if (running) {
+            DeadlineScheduler.getInstance().cancel(this);
+        }
+        running = false;
+        generation++;
+    }
+
+    void fire(long deadline, long tickGeneration) {
+        synchronized (this) {
+            // Stopped or restarted since this tick was scheduled
+            if (!running || tickGeneration != generation) return;
+            long now = System.nanoTime();
+            lateness.recordNanos(now - deadline);
+            if (repeats) {
+                long next = deadline + delayNanos;
+                while (next - now <= 0) {
+                    next += delayNanos;
+                    skippedTicks++;
+                }
+                DeadlineScheduler.getInstance().schedule(this, next, generation);
+            } else {
+                running = false;
+            }
+        }
+        task.run();
+    }
+
+    public synchronized void resetStats() {
+        lateness.reset();
+        skippedTicks = 0;
+    }
+
+    // Tick lateness in microseconds, e.g. for a game-over report
+    public synchronized String jitterSummary() {
+        if (lateness.getCount() == 0) return "no ticks";
+        return String.format("n=%d  p50 %.1f  p99 %.1f  max %.1f us, %d skipped",
+            lateness.getCount(), lateness.getPercentileNanos(50) / 1e3, lateness.getPercentileNanos(99) / 1e3,
+            lateness.getMaxNanos() / 1e3, skippedTicks);
+    }
+}
@@ -0,0 +1,145 @@
+package cardgame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// --- Exact Dealer Outcome Calculator ---
+// Computes the exact distribution of the dealer's final total under BlackjackEngine's rules
+// (draw below 17, stand on every 17 including soft 17) for a given remaining deck composition.
+// Every intermediate dealer state is memoized on a packed composition key, so repeated queries
+// during a shoe reuse earlier work. Not thread-safe: use one instance per thread.
+class DealerOdds {
+    // Indexes into a distribution array
+    static final int BUST = 5;
+    static final int SHORT = 6; // the deck ran out before the dealer reached 17
+    static final int OUTCOMES = 7;
+
+    // Composition slots: 0 = Ace, 1..8 = 2..9, 9 = ten-valued cards
+    static final int SLOTS = 10;
+
+    // Six bits per slot, eight for the tens: enough for an eight-deck shoe (32 / 128 cards)
+    private static final int[] SHIFT = {0, 6, 12, 18, 24, 30, 36, 42, 48, 54};
+    private static final int[] LIMIT = {63, 63, 63, 63, 63, 63, 63, 63, 63, 255};
+    private static final int MAX_CACHED_STATES = 1 << 20;
+
+    // One cache per dealer state while drawing: hard total (aces as 1) below 17, and whether an ace is held
+    private final List<Map<Long, double[]>> cache = new ArrayList<>(17 * 2);
+    private int cachedStates = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    public DealerOdds() {
+        for (int i = 0; i < 17 * 2; i++) {
+            cache.add(new HashMap<>());
+        }
+    }
+
+    static int slot(StandardCard card) {
+        int value = CardCodes.blackjackValue(card.ordinal());
+        return value == 11 ? 0 : value - 1;
+    }
+
+    static int slotValue(int slot) {
+        return slot == 0 ? 1 : slot + 1;
+    }
+
+    // Distribution index of a final dealer total of 17..21
+    static int index(int total) {
+        return total - 17;
+    }
+
+    public static int[] composition(Deck<StandardCard> deck) {
+        int[] counts = new int[SLOTS];
+        deck.forEachRemaining(card -> counts[slot(card)]++);
+        return counts;
+    }
+
+    // Dealer outcome distribution for the cards left in the deck, the upcard already dealt
+    public double[] dealerOutcomes(Deck<StandardCard> deck, StandardCard upcard) {
+        return dealerOutcomes(composition(deck), slot(upcard));
+    }
+
+    // Dealer outcome distribution given an upcard slot and the composition of the unseen cards
+    public double[] dealerOutcomes(int[] composition, int upcardSlot) {
+        if (composition.length != SLOTS) {
+            throw new IllegalArgumentException("Composition must have " + SLOTS + " slots");
+        }
+        int[] counts = composition.clone();
+        long key = 0;
+        int total = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            if (counts[i] < 0 || counts[i] > LIMIT[i]) {
+                throw new IllegalArgumentException("Too many cards in slot " + i + ": " + counts[i]);
+            }
+            key |= (long) counts[i] << SHIFT[i];
+            total += counts[i];
+        }
+        return distribution(counts, key, total, slotValue(upcardSlot), upcardSlot == 0).clone();
+    }
+
+    private double[] distribution(int[] counts, long key, int remaining, int hard, boolean hasAce) {
+        int best = hasAce && hard + 10 <= 21 ? hard + 10 : hard;
+        double[] result = new double[OUTCOMES];
+        if (hard > 21) {
+            result[BUST] = 1;
+            return result;
+        }
+        if (best >= 17) {
+            result[index(best)] = 1;
+            return result;
+        }
+        if (remaining == 0) {
+            result[SHORT] = 1;
+            return result;
+        }
+
+        Map<Long, double[]> states = cache.get(hard * 2 + (hasAce ? 1 : 0));
+        double[] cached = states.get(key);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+
+        for (int slot = 0; slot < SLOTS; slot++) {
+            int count = counts[slot];
+            if (count == 0) continue;
+            double p = (double) count / remaining;
+            counts[slot]--;
+            double[] next = distribution(counts, key - (1L << SHIFT[slot]), remaining - 1,
+                hard + slotValue(slot), hasAce || slot == 0);
+            counts[slot]++;
+            for (int i = 0; i < OUTCOMES; i++) {
+                result[i] += p * next[i];
+            }
+        }
+
+        if (cachedStates >= MAX_CACHED_STATES) {
+            clear();
+        }
+        states.put(key, result);
+        cachedStates++;
+        return result;
+    }
+
+    public void clear() {
+        for (Map<Long, double[]> states : cache) {
+            states.clear();
+        }
+        cachedStates = 0;
+    }
+
+    public int cachedStates() {
+        return cachedStates;
+    }
+
+    public long cacheHits() {
+        return hits;
+    }
+
+    public long cacheMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,39 @@
+package cardgame;
+
+import java.util.List;
+
+// --- Deck Factory ---
+// Builds decks over the shared StandardCard pool; no game frame is needed to get a deck.
+final class DeckFactory {
+    private DeckFactory() {
+    }
+
+    public static List<StandardCard> standardCards() {
+        return StandardCard.standardDeck();
+    }
+
+    public static Deck<StandardCard> standardDeck() {
+        return new Deck<>(StandardCard.standardDeck());
+    }
+
+    public static Deck<StandardCard> shuffledStandardDeck() {
+        Deck<StandardCard> deck = standardDeck();
+        deck.shuffle();
+        return deck;
+    }
+
+    // The 13 cards of one suit, indexed like CardCodes.SUITS
+    public static List<StandardCard> suitCards(int suitIndex) {
+        return StandardCard.suit(suitIndex);
+    }
+
+    public static Deck<StandardCard> shuffledSuitDeck(int suitIndex) {
+        Deck<StandardCard> deck = new Deck<>(StandardCard.suit(suitIndex));
+        deck.shuffle();
+        return deck;
+    }
+
+    public static Shoe<StandardCard> shoe(int deckCount) {
+        return new Shoe<>(StandardCard.standardDeck(), deckCount);
+    }
+}
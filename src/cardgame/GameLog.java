@@ -0,0 +1,194 @@
+package cardgame;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Arrays;
+
+// --- Ring Buffer Log Model ---
+// Keeps the newest lines up to a fixed capacity; the last row is the still-open line.
+class RingBufferListModel extends AbstractListModel<String> {
+    private final String[] lines;
+    private int head;
+    private int size;
+
+    public RingBufferListModel(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.lines = new String[capacity];
+    }
+
+    public int getCapacity() {
+        return lines.length;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return lines[(head + index) % lines.length];
+    }
+
+    // Appends text to the open line, starting a new row after every newline.
+    // Fires a single batch of events for the whole block.
+    void appendText(String text, boolean lastLineOpen) {
+        int oldSize = size;
+        int changedFrom = Integer.MAX_VALUE;
+        int dropped = 0;
+        int start = 0;
+        boolean open = lastLineOpen;
+        while (true) {
+            int newline = text.indexOf('\n', start);
+            int end = newline < 0 ? text.length() : newline;
+            String segment = text.substring(start, end);
+            if (open && size > 0) {
+                int last = (head + size - 1) % lines.length;
+                lines[last] = lines[last] + segment;
+                changedFrom = Math.min(changedFrom, size - 1);
+            } else {
+                if (size == lines.length) {
+                    lines[head] = null;
+                    head = (head + 1) % lines.length;
+                    size--;
+                    dropped++;
+                }
+                lines[(head + size) % lines.length] = segment;
+                size++;
+            }
+            // A trailing newline only closes the line; the next append opens a new row
+            if (newline < 0 || newline == text.length() - 1) break;
+            open = false;
+            start = newline + 1;
+        }
+
+        if (dropped > 0) {
+            fireContentsChanged(this, 0, size - 1);
+        } else {
+            if (changedFrom < oldSize) {
+                fireContentsChanged(this, changedFrom, oldSize - 1);
+            }
+            if (size > oldSize) {
+                fireIntervalAdded(this, oldSize, size - 1);
+            }
+        }
+    }
+
+    void clear() {
+        int oldSize = size;
+        Arrays.fill(lines, null);
+        head = 0;
+        size = 0;
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+    }
+}
+
+// --- Bounded Game Log ---
+// Drop-in replacement for an appended-to JTextArea. Lines live in a fixed-size ring buffer,
+// appends are coalesced and flushed once per frame, and JList only renders the visible rows,
+// so arbitrarily long sessions keep constant memory and cheap scrolling.
+class GameLog extends JList<String> {
+    static final int DEFAULT_CAPACITY = 10_000;
+    private static final int FRAME_MILLIS = 16;
+
+    private final RingBufferListModel model;
+    private final StringBuilder pending = new StringBuilder();
+    private final Timer flushTimer;
+    private boolean lastLineOpen = false;
+    private int widestLine = 0;
+
+    public GameLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameLog(int capacity) {
+        this(new RingBufferListModel(capacity));
+    }
+
+    private GameLog(RingBufferListModel model) {
+        super(model);
+        this.model = model;
+        flushTimer = Lifecycle.bind(this, new Timer(FRAME_MILLIS, e -> flush()));
+        flushTimer.setRepeats(false);
+        setVisibleRowCount(10);
+        updateCellSize();
+    }
+
+    public int getCapacity() {
+        return model.getCapacity();
+    }
+
+    // Queues text for the next frame; a trailing newline closes the current line
+    public void append(String text) {
+        if (text.isEmpty()) return;
+        pending.append(text);
+        if (!flushTimer.isRunning()) {
+            flushTimer.start();
+        }
+    }
+
+    // Shows pending text now instead of on the next frame and paints it before returning, for
+    // lines whose on-screen time is measured (the Slapjack reveal)
+    public void flushNow() {
+        flushTimer.stop();
+        flush();
+        RepaintManager repaints = RepaintManager.currentManager(this);
+        repaints.validateInvalidComponents();
+        repaints.paintDirtyRegions();
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    public void clear() {
+        flushTimer.stop();
+        pending.setLength(0);
+        model.clear();
+        lastLineOpen = false;
+        widestLine = 0;
+        updateCellSize();
+    }
+
+    private void flush() {
+        if (pending.length() == 0) return;
+        String text = pending.toString();
+        pending.setLength(0);
+        model.appendText(text, lastLineOpen);
+        lastLineOpen = text.charAt(text.length() - 1) != '\n';
+
+        // Track the widest line seen so the list never has to measure every row
+        FontMetrics fm = getFontMetrics(getFont());
+        int start = 0;
+        while (start < text.length()) {
+            int newline = text.indexOf('\n', start);
+            int end = newline < 0 ? text.length() : newline;
+            widestLine = Math.max(widestLine, fm.stringWidth(text.substring(start, end)));
+            start = end + 1;
+        }
+        updateCellSize();
+
+        int size = model.getSize();
+        if (size > 0) {
+            ensureIndexIsVisible(size - 1);
+        }
+    }
+
+    private void updateCellSize() {
+        Font font = getFont();
+        if (font == null) return;
+        FontMetrics fm = getFontMetrics(font);
+        setFixedCellHeight(fm.getHeight());
+        setFixedCellWidth(widestLine + 8);
+    }
+
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        // Fields are still unset while the superclass constructor installs the UI font
+        if (model != null) {
+            updateCellSize();
+        }
+    }
+}
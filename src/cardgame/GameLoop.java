@@ -0,0 +1,142 @@
+package cardgame;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// --- Per-Table Game Loop ---
+// Runs a table's game logic on its own thread, one action at a time, so the game state is only
+// ever touched by that thread and slow work (solving a strategy table, a long dealer draw) never
+// stalls painting or input. Actions don't touch Swing: they write log lines and queue UI work,
+// which are published after each action as an immutable snapshot and applied in order on the EDT.
+// The thread exits when the table has been idle for a while, or as soon as its queue is empty
+// once the log's window is disposed, and is started again on demand.
+class GameLoop {
+    private static final long IDLE_SECONDS = 30;
+
+    // Everything one action changed on screen
+    record Snapshot(boolean clearLog, String logText, List<Runnable> uiActions) {
+    }
+
+    private final GameLog log;
+    private final String name;
+    private ThreadPoolExecutor executor;  // guarded by this; null while stopped
+    private ThreadPoolExecutor stopping;  // guarded by this; may still be finishing its queue
+    private final Queue<Snapshot> snapshots = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    // Pending changes, owned by the loop thread
+    private boolean clearLog = false;
+    private final StringBuilder logText = new StringBuilder();
+    private final List<Runnable> uiActions = new ArrayList<>();
+
+    public GameLoop(String name, GameLog log) {
+        this.log = log;
+        this.name = name;
+        Lifecycle.bind(log, this::stop);
+    }
+
+    // Queues an action for the loop thread. Callable from any thread.
+    public synchronized void execute(Runnable action) {
+        if (executor == null) {
+            executor = newExecutor();
+            if (stopping != null) {
+                // Actions must never overlap, so the new thread waits out the old one first
+                ThreadPoolExecutor previous = stopping;
+                stopping = null;
+                executor.execute(() -> awaitTermination(previous));
+            }
+        }
+        executor.execute(() -> {
+            try {
+                action.run();
+            } finally {
+                publish();
+            }
+        });
+    }
+
+    // Lets the thread finish the actions already queued and exit
+    public synchronized void stop() {
+        if (executor == null) return;
+        executor.shutdown();
+        stopping = executor;
+        executor = null;
+    }
+
+    private ThreadPoolExecutor newExecutor() {
+        // At most one thread, so actions never overlap
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "game-loop-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static void awaitTermination(ThreadPoolExecutor previous) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (previous.awaitTermination(1, TimeUnit.MINUTES)) break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- Called from loop actions ---
+
+    public void log(String message) {
+        logText.append(message);
+    }
+
+    public void clearLog() {
+        clearLog = true;
+        logText.setLength(0);
+    }
+
+    // Runs on the EDT after the current action's log output is on screen
+    public void onEdt(Runnable action) {
+        uiActions.add(action);
+    }
+
+    private void publish() {
+        if (!clearLog && logText.length() == 0 && uiActions.isEmpty()) return;
+        snapshots.add(new Snapshot(clearLog, logText.toString(), List.copyOf(uiActions)));
+        clearLog = false;
+        logText.setLength(0);
+        uiActions.clear();
+        if (drainScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    // --- EDT ---
+
+    private void drain() {
+        drainScheduled.set(false);
+        Snapshot snapshot;
+        while ((snapshot = snapshots.poll()) != null) {
+            if (snapshot.clearLog()) {
+                log.clear();
+            }
+            if (!snapshot.logText().isEmpty()) {
+                log.append(snapshot.logText());
+            }
+            for (Runnable action : snapshot.uiActions()) {
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package cardgame;
+
+import java.util.Arrays;
+
+// --- Fixed-Memory Latency Histogram ---
+// HdrHistogram-style log-linear buckets: exact below 128 ns, then 64 sub-buckets per power of two,
+// i.e. better than 2% relative precision up to about two minutes in 2,048 counters.
+// Recording is O(1) and never allocates.
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_SHIFT = 30;
+    static final long MAX_TRACKABLE_NANOS = ((long) SUB_BUCKET_COUNT << MAX_SHIFT) - 1;
+
+    private final long[] counts = new long[SUB_BUCKET_COUNT + MAX_SHIFT * SUB_BUCKET_HALF];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int) (value >> shift) - SUB_BUCKET_HALF;
+    }
+
+    // Midpoint of the range of values that share a counter
+    private static long valueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF + 1;
+        long lowest = (long) (offset % SUB_BUCKET_HALF + SUB_BUCKET_HALF) << shift;
+        return lowest + (1L << (shift - 1));
+    }
+
+    // Values outside [0, MAX_TRACKABLE_NANOS] are clamped into range
+    public void recordNanos(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE_NANOS));
+        counts[indexOf(value)]++;
+        totalCount++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sum += value;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMinNanos() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMaxNanos() {
+        return max;
+    }
+
+    public double getMeanNanos() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    public long getPercentileNanos(double percentile) {
+        if (totalCount == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.max(min, Math.min(max, valueAt(i)));
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        sum = 0;
+    }
+
+    // One-line summary in milliseconds, e.g. for a game-over report
+    public String summary() {
+        if (totalCount == 0) return "no samples";
+        return String.format("n=%d  min %.1f  p50 %.1f  p90 %.1f  p99 %.1f  max %.1f ms",
+            totalCount, getMinNanos() / 1e6, getPercentileNanos(50) / 1e6, getPercentileNanos(90) / 1e6,
+            getPercentileNanos(99) / 1e6, getMaxNanos() / 1e6);
+    }
+}
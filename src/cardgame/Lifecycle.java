@@ -0,0 +1,58 @@
+package cardgame;
+
+import javax.swing.*;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+// --- Component Lifecycle Registry ---
+// Ties timers and other teardown work to an owning component. When the owner stops being
+// displayable (its window is disposed, or it is removed from the hierarchy) every registered
+// teardown runs, so timers stop waking the EDT and stop holding the window reachable.
+// Registrations survive teardown, so an owner that is shown again can restart its timers.
+final class Lifecycle {
+    private static final String KEY = "Lifecycle.teardowns";
+
+    private Lifecycle() {
+    }
+
+    public static Timer bind(JComponent owner, Timer timer) {
+        bind(owner, timer::stop);
+        return timer;
+    }
+
+    public static void bind(JComponent owner, Runnable teardown) {
+        teardowns(owner).add(teardown);
+    }
+
+    // Dialogs and frames: bind to the root pane, which loses displayability on dispose()
+    public static Timer bind(RootPaneContainer window, Timer timer) {
+        return bind(window.getRootPane(), timer);
+    }
+
+    // Runs the owner's teardowns now, e.g. when a screen is hidden but stays displayable
+    public static void tearDown(JComponent owner) {
+        @SuppressWarnings("unchecked")
+        List<Runnable> list = (List<Runnable>) owner.getClientProperty(KEY);
+        if (list == null) return;
+        for (Runnable teardown : list) {
+            teardown.run();
+        }
+    }
+
+    private static List<Runnable> teardowns(JComponent owner) {
+        @SuppressWarnings("unchecked")
+        List<Runnable> list = (List<Runnable>) owner.getClientProperty(KEY);
+        if (list == null) {
+            List<Runnable> created = new ArrayList<>();
+            owner.putClientProperty(KEY, created);
+            owner.addHierarchyListener(e -> {
+                if ((e.getChangeFlags() & HierarchyEvent.DISPLAYABILITY_CHANGED) != 0 && !owner.isDisplayable()) {
+                    tearDown(owner);
+                }
+            });
+            list = created;
+        }
+        return list;
+    }
+}
@@ -0,0 +1,202 @@
+package cardgame;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.util.function.Consumer;
+
+// --- In-Window Overlay Dialog ---
+// A dialog drawn in the window's layered pane over one host component. Unlike JOptionPane or a
+// modal JDialog it never spins a nested event loop: confirm() and prompt() return at once and the
+// answer goes to a callback, so timers and painting carry on normally while it is open.
+class OverlayDialog extends JPanel {
+    private final JComponent host;
+    private final JLayeredPane layeredPane;
+    private final ComponentAdapter hostTracker = new ComponentAdapter() {
+        @Override
+        public void componentResized(ComponentEvent e) {
+            coverHost();
+        }
+        @Override
+        public void componentMoved(ComponentEvent e) {
+            coverHost();
+        }
+    };
+
+    private OverlayDialog(JComponent host, String title, JComponent body, JComponent... actions) {
+        this.host = host;
+        this.layeredPane = host.getRootPane().getLayeredPane();
+        setOpaque(false);
+        setLayout(new GridBagLayout());
+        // Swallow clicks so the game underneath can't be used while the dialog is up, and keep
+        // Tab traversal inside the dialog
+        addMouseListener(new MouseAdapter() { });
+        setFocusCycleRoot(true);
+
+        JPanel card = new JPanel(new BorderLayout(10, 10));
+        card.setBackground(Color.WHITE);
+        card.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(25, 25, 112), 2),
+            BorderFactory.createEmptyBorder(20, 20, 20, 20)
+        ));
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setFont(new Font("Arial", Font.BOLD, 16));
+        card.add(titleLabel, BorderLayout.NORTH);
+        card.add(body, BorderLayout.CENTER);
+        if (actions.length > 0) {
+            JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+            buttonPanel.setOpaque(false);
+            for (JComponent action : actions) {
+                buttonPanel.add(action);
+            }
+            card.add(buttonPanel, BorderLayout.SOUTH);
+        }
+        add(card);
+    }
+
+    // Dims the host behind the dialog
+    @Override
+    protected void paintComponent(Graphics g) {
+        g.setColor(new Color(0, 0, 0, 120));
+        g.fillRect(0, 0, getWidth(), getHeight());
+        super.paintComponent(g);
+    }
+
+    private OverlayDialog open() {
+        blockHostKeys();
+        layeredPane.add(this, JLayeredPane.MODAL_LAYER);
+        host.addComponentListener(hostTracker);
+        coverHost();
+        layeredPane.revalidate();
+        layeredPane.repaint();
+        return this;
+    }
+
+    // The host's WHEN_IN_FOCUSED_WINDOW bindings (e.g. Slapjack's SPACE) fire for any key the
+    // focused component leaves unused, even inside the dialog. Binding the same keys here as an
+    // ancestor of the focused component consumes them first.
+    private void blockHostKeys() {
+        InputMap blocked = getInputMap(WHEN_ANCESTOR_OF_FOCUSED_COMPONENT);
+        getActionMap().put("blockHostKey", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+            }
+        });
+        collectWindowKeys(host, blocked);
+    }
+
+    private static void collectWindowKeys(Component component, InputMap blocked) {
+        if (component instanceof JComponent jc) {
+            KeyStroke[] keys = jc.getInputMap(WHEN_IN_FOCUSED_WINDOW).allKeys();
+            if (keys != null) {
+                for (KeyStroke key : keys) {
+                    blocked.put(key, "blockHostKey");
+                }
+            }
+        }
+        if (component instanceof Container container) {
+            for (Component child : container.getComponents()) {
+                collectWindowKeys(child, blocked);
+            }
+        }
+    }
+
+    private void coverHost() {
+        setBounds(SwingUtilities.convertRectangle(host.getParent(), host.getBounds(), layeredPane));
+        validate();
+    }
+
+    public void close() {
+        if (getParent() == null) return;
+        host.removeComponentListener(hostTracker);
+        Rectangle bounds = getBounds();
+        layeredPane.remove(this);
+        layeredPane.repaint(bounds);
+        // Don't rely on removal making us undisplayable: stop the auto-close timer now
+        Lifecycle.tearDown(this);
+        host.requestFocusInWindow();
+    }
+
+    // Closes every overlay in the window, e.g. when switching screens, without calling back
+    public static void closeAll(JRootPane rootPane) {
+        for (Component component : rootPane.getLayeredPane().getComponentsInLayer(JLayeredPane.MODAL_LAYER)) {
+            if (component instanceof OverlayDialog dialog) {
+                dialog.close();
+            }
+        }
+    }
+
+    private static JComponent messageBody(String message) {
+        JTextArea text = new JTextArea(message);
+        text.setEditable(false);
+        text.setFocusable(false);
+        text.setOpaque(false);
+        text.setFont(new Font("Arial", Font.PLAIN, 14));
+        return text;
+    }
+
+    private static JButton actionButton(String label) {
+        JButton button = new JButton(label);
+        button.setFont(new Font("Arial", Font.BOLD, 14));
+        button.setFocusPainted(false);
+        return button;
+    }
+
+    // Yes/No question; the callback receives true for Yes
+    public static OverlayDialog confirm(JComponent host, String title, String message, Consumer<Boolean> callback) {
+        JButton yes = actionButton("Yes");
+        JButton no = actionButton("No");
+        OverlayDialog dialog = new OverlayDialog(host, title, messageBody(message), yes, no);
+        yes.addActionListener(e -> {
+            dialog.close();
+            callback.accept(true);
+        });
+        no.addActionListener(e -> {
+            dialog.close();
+            callback.accept(false);
+        });
+        dialog.open();
+        yes.requestFocusInWindow();
+        return dialog;
+    }
+
+    // Single-line text input; the callback receives the trimmed, non-empty answer
+    public static OverlayDialog prompt(JComponent host, String title, String message, JButton submit, Consumer<String> callback) {
+        JPanel body = new JPanel(new BorderLayout(10, 10));
+        body.setOpaque(false);
+        JLabel label = new JLabel(message);
+        label.setFont(new Font("Arial", Font.BOLD, 14));
+        JTextField input = new JTextField(20);
+        input.setFont(new Font("Arial", Font.PLAIN, 14));
+        body.add(label, BorderLayout.NORTH);
+        body.add(input, BorderLayout.CENTER);
+
+        OverlayDialog dialog = new OverlayDialog(host, title, body, submit);
+        Runnable accept = () -> {
+            String text = input.getText();
+            if (text != null && !text.trim().isEmpty()) {
+                dialog.close();
+                callback.accept(text.trim());
+            }
+        };
+        submit.addActionListener(e -> accept.run());
+        input.addActionListener(e -> accept.run());
+        dialog.open();
+        input.requestFocusInWindow();
+        return dialog;
+    }
+
+    // Informational message that closes itself after the given delay
+    public static OverlayDialog message(JComponent host, String title, String message, int closeAfterMillis) {
+        OverlayDialog dialog = new OverlayDialog(host, title, messageBody(message));
+        Timer timer = Lifecycle.bind(dialog, new Timer(closeAfterMillis, e -> dialog.close()));
+        timer.setRepeats(false);
+        dialog.open();
+        timer.start();
+        return dialog;
+    }
+}
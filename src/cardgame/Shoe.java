@@ -0,0 +1,77 @@
+package cardgame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// --- Multi-Deck Shoe ---
+// N copies of a deck dealt down to a cut card, then reshuffled in place.
+// The same card references are reused across reshuffles, so nothing is allocated per card.
+class Shoe<T> extends Deck<T> {
+    static final int MIN_DECKS = 1;
+    static final int MAX_DECKS = 8;
+    static final double DEFAULT_PENETRATION = 0.75;
+
+    private final int deckCount;
+    private final int totalCards;
+    private final int cutCard;
+
+    public Shoe(List<T> singleDeck, int deckCount) {
+        this(singleDeck, deckCount, DEFAULT_PENETRATION);
+    }
+
+    public Shoe(List<T> singleDeck, int deckCount, double penetration) {
+        this(singleDeck, deckCount, penetration, null);
+    }
+
+    public Shoe(List<T> singleDeck, int deckCount, double penetration, RandomGenerator random) {
+        super(repeat(singleDeck, deckCount), random);
+        if (penetration <= 0 || penetration > 1) {
+            throw new IllegalArgumentException("Penetration must be in (0, 1]: " + penetration);
+        }
+        this.deckCount = deckCount;
+        this.totalCards = singleDeck.size() * deckCount;
+        this.cutCard = (int) (totalCards * penetration);
+        shuffle();
+    }
+
+    private static <T> List<T> repeat(List<T> singleDeck, int deckCount) {
+        if (deckCount < MIN_DECKS || deckCount > MAX_DECKS) {
+            throw new IllegalArgumentException("Deck count must be between " + MIN_DECKS + " and " + MAX_DECKS + ": " + deckCount);
+        }
+        List<T> cards = new ArrayList<>(singleDeck.size() * deckCount);
+        for (int i = 0; i < deckCount; i++) {
+            cards.addAll(singleDeck);
+        }
+        return cards;
+    }
+
+    public int getDeckCount() {
+        return deckCount;
+    }
+
+    @Override
+    public int getTotalCards() {
+        return totalCards;
+    }
+
+    // Number of cards dealt before the cut card comes out
+    public int getCutCard() {
+        return cutCard;
+    }
+
+    public boolean isCutCardReached() {
+        return totalCards - size() >= cutCard;
+    }
+
+    // Gathers every card back and reshuffles once the cut card has come out, or once fewer
+    // than cardsNeeded remain (a cut card placed near the end of the shoe)
+    public boolean reshuffleIfNeeded(int cardsNeeded) {
+        if (!isCutCardReached() && size() >= cardsNeeded) {
+            return false;
+        }
+        reset();
+        shuffle();
+        return true;
+    }
+}
@@ -0,0 +1,226 @@
+package cardgame;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// --- Blackjack Strategy Table ---
+// Expected-value-optimal action for every player total (hard and soft) against every dealer
+// upcard, solved for one deck composition. Lookups are a single index into a byte array.
+class StrategyTable implements BlackjackStrategy {
+    static final byte STAND = 0;
+    static final byte HIT = 1;
+    // Reserved for when the engine supports them
+    static final byte DOUBLE = 2;
+    static final byte SPLIT = 3;
+
+    private static final int TOTALS = 22;
+    private static final int SIZE = 2 * TOTALS * DealerOdds.SLOTS;
+    private static final int MAGIC = 0x424A5354; // "BJST"
+    private static final byte VERSION = 1;
+
+    private final int[] composition;
+    private final byte[] actions;
+
+    private StrategyTable(int[] composition, byte[] actions) {
+        this.composition = composition;
+        this.actions = actions;
+    }
+
+    private static int index(int total, boolean soft, int upcardSlot) {
+        return ((soft ? TOTALS : 0) + total) * DealerOdds.SLOTS + upcardSlot;
+    }
+
+    public byte action(int total, boolean soft, int upcardSlot) {
+        return actions[index(total, soft, upcardSlot)];
+    }
+
+    @Override
+    public boolean shouldHit(int playerScore, boolean soft, int dealerUpcardValue) {
+        if (playerScore >= TOTALS) return false;
+        int upcardSlot = dealerUpcardValue == 11 ? 0 : dealerUpcardValue - 1;
+        return actions[index(playerScore, soft, upcardSlot)] == HIT;
+    }
+
+    public int[] getComposition() {
+        return composition.clone();
+    }
+
+    // --- Solver ---
+
+    public static int[] shoeComposition(int deckCount) {
+        int[] counts = new int[DealerOdds.SLOTS];
+        for (StandardCard card : DeckFactory.standardCards()) {
+            counts[DealerOdds.slot(card)] += deckCount;
+        }
+        return counts;
+    }
+
+    // Solves every upcard in parallel. Each task owns its DealerOdds and writes a disjoint
+    // column of the table, so no locking is needed. The player's own draws are taken from
+    // the same composition as the dealer's, i.e. card removal by the player is ignored.
+    public static StrategyTable solve(int[] composition) {
+        int[] counts = composition.clone();
+        byte[] actions = new byte[SIZE];
+        IntStream.range(0, DealerOdds.SLOTS).parallel().forEach(upcardSlot -> {
+            if (counts[upcardSlot] > 0) {
+                solveUpcard(counts, upcardSlot, actions);
+            }
+        });
+        return new StrategyTable(counts, actions);
+    }
+
+    private static void solveUpcard(int[] composition, int upcardSlot, byte[] actions) {
+        int[] unseen = composition.clone();
+        unseen[upcardSlot]--;
+        double[] dealer = new DealerOdds().dealerOutcomes(unseen, upcardSlot);
+
+        int remaining = 0;
+        for (int count : unseen) remaining += count;
+        double[] draw = new double[DealerOdds.SLOTS];
+        for (int slot = 0; slot < DealerOdds.SLOTS; slot++) {
+            draw[slot] = (double) unseen[slot] / remaining;
+        }
+
+        // Best EV of a hand with hard total h (aces as 1) and whether it holds an ace.
+        // Hitting only raises the hard total, so fill from 21 down.
+        double[][] ev = new double[TOTALS][2];
+        for (int hard = 21; hard >= 2; hard--) {
+            for (int ace = 0; ace <= 1; ace++) {
+                boolean soft = ace == 1 && hard + 10 <= 21;
+                int total = soft ? hard + 10 : hard;
+                double stand = standValue(total, dealer);
+                double hit = 0;
+                for (int slot = 0; slot < DealerOdds.SLOTS; slot++) {
+                    int next = hard + DealerOdds.slotValue(slot);
+                    hit += draw[slot] * (next > 21 ? -1 : ev[next][slot == 0 ? 1 : ace]);
+                }
+                boolean shouldHit = total < 21 && hit > stand;
+                ev[hard][ace] = shouldHit ? hit : stand;
+                if (ace == 0 || soft) {
+                    actions[index(total, soft, upcardSlot)] = shouldHit ? HIT : STAND;
+                }
+            }
+        }
+    }
+
+    // EV of standing on a total: even money, pushes return nothing
+    private static double standValue(int total, double[] dealer) {
+        double value = dealer[DealerOdds.BUST];
+        for (int dealerTotal = 17; dealerTotal <= 21; dealerTotal++) {
+            double p = dealer[DealerOdds.index(dealerTotal)];
+            if (total > dealerTotal) {
+                value += p;
+            } else if (total < dealerTotal) {
+                value -= p;
+            }
+        }
+        return value;
+    }
+
+    // --- Disk Cache ---
+
+    static Path defaultCacheDirectory() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "cardgame-strategy");
+    }
+
+    public static StrategyTable forShoe(int deckCount) {
+        return loadOrSolve(shoeComposition(deckCount), defaultCacheDirectory());
+    }
+
+    // Reads the table for this composition from the cache directory, solving and writing it on a miss
+    public static StrategyTable loadOrSolve(int[] composition, Path directory) {
+        Path file = directory.resolve("strategy-" + Long.toHexString(compositionKey(composition)) + ".bin");
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                StrategyTable table = read(in);
+                if (Arrays.equals(table.composition, composition)) {
+                    return table;
+                }
+            } catch (IOException e) {
+                // Unreadable or stale cache entry, fall through and solve again
+            }
+        }
+
+        StrategyTable table = solve(composition);
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "strategy", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                table.write(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Could not cache strategy table: " + e.getMessage());
+        }
+        return table;
+    }
+
+    private static long compositionKey(int[] composition) {
+        long key = 1125899906842597L;
+        for (int count : composition) {
+            key = 31 * key + count;
+        }
+        return key;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        for (int count : composition) {
+            data.writeShort(count);
+        }
+        data.write(actions);
+        data.flush();
+    }
+
+    public static StrategyTable read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readByte() != VERSION) {
+            throw new IOException("Not a strategy table");
+        }
+        int[] composition = new int[DealerOdds.SLOTS];
+        for (int i = 0; i < composition.length; i++) {
+            composition[i] = data.readShort();
+        }
+        byte[] actions = new byte[SIZE];
+        data.readFully(actions);
+        return new StrategyTable(composition, actions);
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder("      ");
+        for (int up = 2; up <= 11; up++) {
+            sb.append(String.format("%3s", up == 11 ? "A" : String.valueOf(up)));
+        }
+        sb.append('\n');
+        for (int soft = 0; soft <= 1; soft++) {
+            for (int total = soft == 1 ? 13 : 5; total <= 20; total++) {
+                sb.append(String.format("%-6s", (soft == 1 ? "S" : "H") + total));
+                for (int up = 2; up <= 11; up++) {
+                    sb.append(shouldHit(total, soft == 1, up) ? "  H" : "  S");
+                }
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    // Usage: strategy [decks]
+    public static void main(String[] args) {
+        int decks = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+        long start = System.nanoTime();
+        StrategyTable table = forShoe(decks);
+        System.out.printf("Strategy for a %d-deck shoe (%.1f ms)%n", decks, (System.nanoTime() - start) / 1e6);
+        System.out.print(table.format());
+    }
+}
@@ -0,0 +1,34 @@
+package cardgame;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// --- Blackjack Engine Shoe Test ---
+// A cut card at (or near) the end of the shoe must still reshuffle before a deal it can't cover.
+class BlackjackEngineTest {
+    private static final int ROUNDS = 10_000;
+
+    @Test
+    void fullPenetrationShoeKeepsDealing() {
+        for (double penetration : new double[] {1.0, 0.97, 0.95}) {
+            Shoe<StandardCard> shoe = new Shoe<>(DeckFactory.standardCards(), 1, penetration, Deck.seededRandom(1L));
+            BlackjackEngine engine = new BlackjackEngine(shoe);
+            for (int i = 0; i < ROUNDS; i++) {
+                assertNotNull(engine.playRound(BlackjackStrategy.DEALER_RULES),
+                    "round " + i + " at penetration " + penetration);
+            }
+        }
+    }
+
+    @Test
+    void shoeReshufflesWhenTooFewCardsRemain() {
+        Shoe<StandardCard> shoe = new Shoe<>(DeckFactory.standardCards(), 1, 1.0, Deck.seededRandom(1L));
+        while (shoe.size() > 3) {
+            shoe.dealCard();
+        }
+        assertFalse(shoe.isCutCardReached());
+        assertTrue(shoe.reshuffleIfNeeded(BlackjackEngine.CARDS_PER_DEAL));
+        assertEquals(shoe.getTotalCards(), shoe.size());
+    }
+}
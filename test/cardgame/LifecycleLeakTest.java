@@ -0,0 +1,244 @@
+package cardgame;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+// --- Lifecycle Heap Regression Test ---
+// Opens and closes every game screen and every kind of overlay many times, then checks through
+// weak references that nothing is left reachable: a timer that keeps running after its owner
+// closes holds the owner (and its window) through the timer queue. With a display each screen
+// gets a real frame and dispose() drives the DISPLAYABILITY_CHANGED teardown; headless, the
+// same event is dispatched to the component tree by hand.
+class LifecycleLeakTest {
+    private static final int ITERATIONS = 1000;
+    private static final long COLLECT_TIMEOUT_MILLIS = 60_000;
+    // Well under GameLoop's idle timeout, so only a stopped loop's thread exits in time
+    private static final long THREAD_EXIT_MILLIS = 5_000;
+
+    @Test
+    void blackjackScreensAreReleased() {
+        assertScreensReleased(() -> new BlackjackGame(() -> { }));
+    }
+
+    @Test
+    void highCardScreensAreReleased() {
+        assertScreensReleased(() -> new HighCardGame(() -> { }));
+    }
+
+    @Test
+    void slapjackScreensAreReleased() {
+        assertScreensReleased(() -> new SlapjackGame(() -> { }));
+    }
+
+    private <T extends JComponent & GameScreen> void assertScreensReleased(Supplier<T> factory) {
+        List<WeakReference<Object>> refs = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            onEdt(() -> {
+                T screen = factory.get();
+                JRootPane window = open(screen);
+                screen.screenShown();
+                screen.screenHidden();
+                close(window);
+                refs.add(new WeakReference<>(screen));
+                refs.add(new WeakReference<>(window));
+            });
+        }
+        assertCollected(refs, "game screens and their windows");
+        assertNoGameLoopThreads();
+    }
+
+    @Test
+    void overlaysAreReleased() {
+        JPanel host = new JPanel();
+        JRootPane[] window = new JRootPane[1];
+        onEdt(() -> window[0] = open(host));
+        int hostListeners = host.getComponentListeners().length;
+        AtomicInteger answers = new AtomicInteger();
+        List<WeakReference<Object>> refs = new ArrayList<>();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            onEdt(() -> {
+                OverlayDialog confirm = OverlayDialog.confirm(host, "Game Over", "Play again?", yes -> answers.incrementAndGet());
+                find(confirm, JButton.class, "No").doClick(0);
+                refs.add(new WeakReference<>(confirm));
+
+                JButton submit = new JButton("Submit");
+                OverlayDialog prompt = OverlayDialog.prompt(host, "Guess", "Rank?", submit, guess -> answers.incrementAndGet());
+                find(prompt, JTextField.class, null).setText("Ace");
+                submit.doClick(0);
+                refs.add(new WeakReference<>(prompt));
+
+                // Closed long before its own timer would close it
+                refs.add(new WeakReference<>(OverlayDialog.message(host, "Result", "Correct!", 60_000)));
+                OverlayDialog.closeAll(window[0]);
+            });
+        }
+
+        onEdt(() -> {
+            assertEquals(2 * ITERATIONS, answers.get());
+            assertEquals(0, window[0].getLayeredPane().getComponentsInLayer(JLayeredPane.MODAL_LAYER).length);
+            assertEquals(hostListeners, host.getComponentListeners().length);
+            close(window[0]);
+        });
+        assertCollected(refs, "overlay dialogs");
+    }
+
+    @Test
+    void teardownRunsWhenOwnerIsClosed() {
+        JPanel owner = new JPanel();
+        Timer timer = new Timer(10, e -> { });
+        AtomicBoolean tornDown = new AtomicBoolean();
+        onEdt(() -> {
+            JRootPane window = open(owner);
+            Lifecycle.bind(owner, timer);
+            Lifecycle.bind(owner, () -> tornDown.set(true));
+            timer.start();
+            close(window);
+        });
+        assertFalse(timer.isRunning());
+        assertTrue(tornDown.get());
+    }
+
+    // The real navigation path: one frame, cached screens swapped in and out
+    @Test
+    void appWindowIsReleasedAfterSwitchingGames() {
+        assumeFalse(GraphicsEnvironment.isHeadless(), "needs a display to create the application frame");
+        AtomicInteger created = new AtomicInteger();
+        List<WeakReference<Object>> refs = new ArrayList<>();
+        onEdt(() -> {
+            CardGameSimulator app = new CardGameSimulator();
+            app.pack();
+            for (int i = 0; i < ITERATIONS; i++) {
+                app.showGame("blackjack", () -> track(new BlackjackGame(app::showMenu), created, refs));
+                app.showMenu();
+                app.showGame("highCard", () -> track(new HighCardGame(app::showMenu), created, refs));
+                app.showMenu();
+                app.showGame("slapjack", () -> track(new SlapjackGame(app::showMenu), created, refs));
+                app.showMenu();
+            }
+            app.dispose();
+            refs.add(new WeakReference<>(app));
+        });
+        assertEquals(3, created.get(), "game screens should be built once and cached");
+        assertCollected(refs, "the application frame and its screens");
+    }
+
+    private static <T> T track(T screen, AtomicInteger created, List<WeakReference<Object>> refs) {
+        created.incrementAndGet();
+        refs.add(new WeakReference<>(screen));
+        return screen;
+    }
+
+    // --- Helpers ---
+
+    private static JRootPane open(JComponent content) {
+        if (GraphicsEnvironment.isHeadless()) {
+            JRootPane root = new JRootPane();
+            root.setContentPane(content);
+            root.setSize(800, 600);
+            root.doLayout();
+            return root;
+        }
+        JFrame frame = new JFrame();
+        frame.setContentPane(content);
+        frame.setSize(800, 600);
+        frame.addNotify();
+        frame.validate();
+        return frame.getRootPane();
+    }
+
+    private static void close(JRootPane root) {
+        Window window = SwingUtilities.getWindowAncestor(root);
+        if (window != null) {
+            window.dispose();
+        } else {
+            dispatchUndisplayable(root);
+        }
+    }
+
+    // What removeNotify() sends every component when a real window is disposed
+    private static void dispatchUndisplayable(Component component) {
+        component.dispatchEvent(new HierarchyEvent(component, HierarchyEvent.HIERARCHY_CHANGED,
+            component, component.getParent(), HierarchyEvent.DISPLAYABILITY_CHANGED));
+        if (component instanceof Container container) {
+            for (Component child : container.getComponents()) {
+                dispatchUndisplayable(child);
+            }
+        }
+    }
+
+    private static <T extends Component> T find(Container container, Class<T> type, String text) {
+        for (Component child : container.getComponents()) {
+            if (type.isInstance(child) && (text == null || text.equals(((AbstractButton) child).getText()))) {
+                return type.cast(child);
+            }
+            if (child instanceof Container nested) {
+                T found = find(nested, type, text);
+                if (found != null) return found;
+            }
+        }
+        return null;
+    }
+
+    private static void assertCollected(List<WeakReference<Object>> refs, String what) {
+        long deadline = System.currentTimeMillis() + COLLECT_TIMEOUT_MILLIS;
+        long live;
+        do {
+            // Let queued game-loop actions and their EDT snapshots run out first
+            onEdt(() -> { });
+            System.gc();
+            live = refs.stream().filter(ref -> ref.get() != null).count();
+            if (live == 0) return;
+            sleep(100);
+        } while (System.currentTimeMillis() < deadline);
+        fail(live + " of " + refs.size() + " " + what + " are still reachable");
+    }
+
+    private static void assertNoGameLoopThreads() {
+        long deadline = System.currentTimeMillis() + THREAD_EXIT_MILLIS;
+        long running;
+        do {
+            running = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("game-loop-"))
+                .count();
+            if (running == 0) return;
+            sleep(100);
+        } while (System.currentTimeMillis() < deadline);
+        fail(running + " game-loop threads outlived their closed screens");
+    }
+
+    private static void onEdt(Runnable action) {
+        try {
+            SwingUtilities.invokeAndWait(action);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package cardgame;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// --- Precise Timer Delay Test ---
+// A repeating timer with no period would never leave fire()'s catch-up loop and would stall
+// every other timer on the shared scheduler thread, so such delays are refused up front.
+class PreciseTimerTest {
+
+    @Test
+    void rejectsNonPositiveDelays() {
+        assertThrows(IllegalArgumentException.class, () -> new PreciseTimer(0, true, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new PreciseTimer(-5, false, () -> { }));
+
+        PreciseTimer timer = new PreciseTimer(10, true, () -> { });
+        assertThrows(IllegalArgumentException.class, () -> timer.setDelay(0));
+        assertEquals(10, timer.getDelay());
+    }
+}